@@ -0,0 +1,131 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일자 버킷 합산 방식 vs 시간 감쇠 단일 정렬 집합 방식 비교
+ *
+ * - dayBucket*: 기존 방식. 일자별 점수 맵 3개에 누적하고, 조회 시 전부 합산 후 정렬
+ * - decayed*  : 트렌딩 엔진 방식. 멤버→점수 맵 + 점수순 정렬 집합(Redis ZSET 과 같은 구조)에
+ *               forward decay 가중치로 누적하고, 조회 시 앞에서부터 K개만 읽음
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrendingScoreBenchmark {
+
+    private static final int DAYS = 3;
+    private static final int TOP_K = 20;
+    private static final double HALF_LIFE_MS = 24 * 60 * 60 * 1000D;
+
+    @Param({"10000", "1000000"})
+    public int members;
+
+    private List<Map<Long, Long>> dayBuckets;
+    private SortedScoreSet decayed;
+    private long epoch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        epoch = System.currentTimeMillis();
+
+        dayBuckets = new ArrayList<>(DAYS);
+        for (int d = 0; d < DAYS; d++) {
+            Map<Long, Long> bucket = new HashMap<>(members * 2);
+            for (long id = 0; id < members; id++) {
+                bucket.put(id, (long) random.nextInt(1, 100));
+            }
+            dayBuckets.add(bucket);
+        }
+
+        decayed = new SortedScoreSet(members);
+        for (long id = 0; id < members; id++) {
+            decayed.increment(String.valueOf(id), random.nextInt(1, 300));
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 갱신 비용
+     *──────────────────────────────────────────────*/
+
+    @Benchmark
+    public void dayBucketUpdate() {
+        long id = ThreadLocalRandom.current().nextLong(members);
+        dayBuckets.get(0).merge(id, 1L, Long::sum);
+    }
+
+    @Benchmark
+    public void decayedUpdate() {
+        long id = ThreadLocalRandom.current().nextLong(members);
+        double factor = Math.pow(2D, (System.currentTimeMillis() - epoch) / HALF_LIFE_MS);
+        decayed.increment(String.valueOf(id), factor);
+    }
+
+    /*──────────────────────────────────────────────
+     | 상위 K개 조회 비용
+     *──────────────────────────────────────────────*/
+
+    @Benchmark
+    public void dayBucketTopK(Blackhole bh) {
+        Map<Long, Long> merged = new HashMap<>(members * 2);
+        for (Map<Long, Long> bucket : dayBuckets) {
+            bucket.forEach((id, score) -> merged.merge(id, score, Long::sum));
+        }
+        bh.consume(merged.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(TOP_K)
+                .toList());
+    }
+
+    @Benchmark
+    public void decayedTopK(Blackhole bh) {
+        bh.consume(decayed.top(TOP_K));
+    }
+
+    /**
+     * Redis ZSET 과 같은 구조 (dict + 점수순 정렬 집합)
+     */
+    static final class SortedScoreSet {
+
+        private record Scored(String member, double score) {
+        }
+
+        private static final Comparator<Scored> ORDER = Comparator
+                .comparingDouble(Scored::score).reversed()
+                .thenComparing(Scored::member);
+
+        private final Map<String, Double> scores;
+        private final NavigableSet<Scored> ordered = new TreeSet<>(ORDER);
+
+        SortedScoreSet(int expectedSize) {
+            this.scores = new HashMap<>(expectedSize * 2);
+        }
+
+        void increment(String member, double delta) {
+            Double old = scores.get(member);
+            double next = (old == null ? 0D : old) + delta;
+            if (old != null) {
+                ordered.remove(new Scored(member, old));
+            }
+            scores.put(member, next);
+            ordered.add(new Scored(member, next));
+        }
+
+        List<String> top(int k) {
+            List<String> result = new ArrayList<>(k);
+            for (Scored s : ordered) {
+                if (result.size() >= k) break;
+                result.add(s.member());
+            }
+            return result;
+        }
+    }
+}
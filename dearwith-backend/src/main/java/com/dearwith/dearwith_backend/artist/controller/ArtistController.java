@@ -8,6 +8,7 @@ import com.dearwith.dearwith_backend.artist.repository.ArtistRepository;
 import com.dearwith.dearwith_backend.artist.service.ArtistService;
 import com.dearwith.dearwith_backend.artist.service.HotArtistService;
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
 import com.dearwith.dearwith_backend.common.dto.CreatedResponseDto;
 import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
@@ -79,6 +80,21 @@ public class ArtistController {
     }
 
 
+    @GetMapping("/{artistId}/events/cursor")
+    @Operation(summary = "특정 아티스트의 이벤트 목록 (커서)", description = "무한 스크롤용. sort 는 LATEST/UPCOMING 만 지원, 응답의 nextCursor 를 다음 요청에 전달")
+    public CursorSliceDto<EventInfoDto> getArtistEventsByCursor(
+            @CurrentUser UUID userId,
+            @PathVariable Long artistId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "LATEST") EventSort sort
+    ) {
+        if (cursor == null) {
+            hotArtistService.recordArtistView(artistId, userId);
+        }
+        return eventQueryService.getEventsByArtistCursor(artistId, userId, cursor, size, sort);
+    }
+
     @GetMapping("/{artistId}/events")
     @Operation(summary = "특정 아티스트의 이벤트 목록")
     public ArtistEventsResponseDto getArtistEvents(
@@ -8,6 +8,7 @@ import com.dearwith.dearwith_backend.artist.repository.ArtistGroupRepository;
 import com.dearwith.dearwith_backend.artist.service.ArtistGroupService;
 import com.dearwith.dearwith_backend.artist.service.HotArtistService;
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
 import com.dearwith.dearwith_backend.common.dto.CreatedResponseDto;
 import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
@@ -49,6 +50,21 @@ public class ArtistGroupController {
         return artistGroupService.search(query, pageable);
     }
 
+    @GetMapping("{groupId}/events/cursor")
+    @Operation(summary = "특정 그룹의 이벤트 목록 (커서)", description = "무한 스크롤용. sort 는 LATEST/UPCOMING 만 지원, 응답의 nextCursor 를 다음 요청에 전달")
+    public CursorSliceDto<EventInfoDto> getGroupEventsByCursor(
+            @CurrentUser UUID userId,
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "LATEST") EventSort sort
+    ) {
+        if (cursor == null) {
+            hotArtistService.recordGroupView(groupId, userId);
+        }
+        return eventQueryService.getEventsByGroupCursor(groupId, userId, cursor, size, sort);
+    }
+
     @GetMapping("{groupId}/events")
     @Operation(summary = "특정 그룹의 이벤트 목록",
             description = "해당 그룹의 모든 아티스트 이벤트 + 그룹에 직접 매핑된 이벤트를 합쳐서 반환합니다.")
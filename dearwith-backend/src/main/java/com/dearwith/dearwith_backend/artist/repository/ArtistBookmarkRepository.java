@@ -1,10 +1,12 @@
 package com.dearwith.dearwith_backend.artist.repository;
 
 import com.dearwith.dearwith_backend.artist.entity.ArtistBookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,18 @@ public interface ArtistBookmarkRepository extends JpaRepository<ArtistBookmark,
     """)
     List<Long> findArtistIdsByUserId(@Param("userId") UUID userId);
 
+    // 알림 발송용: 아티스트 팔로워 id keyset 페이징 (엔티티 로딩 없음)
+    @Query("""
+        select distinct ab.user.id
+        from ArtistBookmark ab
+        where ab.artist.id in :artistIds
+          and ab.user.id > :lastUserId
+        order by ab.user.id
+    """)
+    List<UUID> findUserIdsByArtistIdsAfter(@Param("artistIds") Collection<Long> artistIds,
+                                           @Param("lastUserId") UUID lastUserId,
+                                           Pageable pageable);
+
     @Query("select count(b) from ArtistBookmark b " +
             "where b.user.id = :userId")
     long countByUserId(@Param("userId") UUID userId);
@@ -1,10 +1,12 @@
 package com.dearwith.dearwith_backend.artist.repository;
 
 import com.dearwith.dearwith_backend.artist.entity.ArtistGroupBookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,18 @@ public interface ArtistGroupBookmarkRepository extends JpaRepository<ArtistGroup
     """)
     List<Long> findGroupIdsByUserId(@Param("userId") UUID userId);
 
+    // 알림 발송용: 그룹 팔로워 id keyset 페이징 (엔티티 로딩 없음)
+    @Query("""
+        select distinct agb.user.id
+        from ArtistGroupBookmark agb
+        where agb.artistGroup.id in :groupIds
+          and agb.user.id > :lastUserId
+        order by agb.user.id
+    """)
+    List<UUID> findUserIdsByGroupIdsAfter(@Param("groupIds") Collection<Long> groupIds,
+                                          @Param("lastUserId") UUID lastUserId,
+                                          Pageable pageable);
+
     @Query("select count(b) from ArtistGroupBookmark b " +
             "where b.user.id = :userId")
     long countByUserId(@Param("userId") UUID userId);
@@ -3,6 +3,7 @@ package com.dearwith.dearwith_backend.artist.service;
 import com.dearwith.dearwith_backend.artist.dto.ArtistGroupCreateRequestDto;
 import com.dearwith.dearwith_backend.artist.dto.ArtistGroupDto;
 import com.dearwith.dearwith_backend.artist.entity.ArtistGroup;
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
 import com.dearwith.dearwith_backend.artist.mapper.ArtistGroupMapper;
 import com.dearwith.dearwith_backend.artist.repository.ArtistGroupRepository;
 import com.dearwith.dearwith_backend.auth.service.AuthService;
@@ -11,9 +12,11 @@ import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
 import com.dearwith.dearwith_backend.common.utill.KoreanRomanizer;
 import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
+import com.dearwith.dearwith_backend.search.index.ArtistIndexChangedEvent;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,6 +36,7 @@ public class ArtistGroupService {
     private final UserReader userReader;
     private final ArtistGroupImageAppService artistGroupImageService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<ArtistGroupDto> search(String query, Pageable pageable) {
         return artistGroupRepository.searchByName(query, pageable)
@@ -73,6 +77,7 @@ public class ArtistGroupService {
         group = artistGroupRepository.save(group);
 
         handleImageOnCreate(group, req.tmpKey());
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.GROUP, group.getId()));
 
         return CreatedResponseDto.builder()
                 .id(group.getId())
@@ -105,6 +110,7 @@ public class ArtistGroupService {
         group.setDebutDate(debut);
 
         handleImageOnUpdate(group, req.tmpKey());
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.GROUP, group.getId()));
     }
 
     /* ======================== 삭제 ======================== */
@@ -123,6 +129,7 @@ public class ArtistGroupService {
 
         artistGroupImageService.delete(group);
         group.softDelete();
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.GROUP, group.getId()));
     }
 
     /* ======================== 내부 헬퍼 ======================== */
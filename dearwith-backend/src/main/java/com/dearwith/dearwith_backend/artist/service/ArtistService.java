@@ -3,6 +3,7 @@ package com.dearwith.dearwith_backend.artist.service;
 import com.dearwith.dearwith_backend.artist.dto.ArtistCreateRequestDto;
 import com.dearwith.dearwith_backend.artist.dto.ArtistDto;
 import com.dearwith.dearwith_backend.artist.entity.Artist;
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
 import com.dearwith.dearwith_backend.artist.mapper.ArtistMapper;
 import com.dearwith.dearwith_backend.artist.repository.ArtistRepository;
 import com.dearwith.dearwith_backend.auth.service.AuthService;
@@ -11,9 +12,11 @@ import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
 import com.dearwith.dearwith_backend.common.utill.KoreanRomanizer;
 import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
+import com.dearwith.dearwith_backend.search.index.ArtistIndexChangedEvent;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,6 +36,7 @@ public class ArtistService {
     private final UserReader userReader;
     private final ArtistImageAppService artistImageService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* ============================================================
        검색
@@ -82,6 +86,7 @@ public class ArtistService {
         artist = artistRepository.save(artist);
 
         handleImageOnCreate(artist, req.tmpKey());
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.ARTIST, artist.getId()));
 
         return CreatedResponseDto.builder()
                 .id(artist.getId())
@@ -115,6 +120,7 @@ public class ArtistService {
         artist.setBirthDate(birth);
 
         handleImageOnUpdate(artist, req.tmpKey());
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.ARTIST, artist.getId()));
     }
 
     /* ============================================================
@@ -134,6 +140,7 @@ public class ArtistService {
 
         artistImageService.delete(artist);
         artist.softDelete();
+        eventPublisher.publishEvent(new ArtistIndexChangedEvent(ArtistType.ARTIST, artist.getId()));
     }
 
     /* ============================================================
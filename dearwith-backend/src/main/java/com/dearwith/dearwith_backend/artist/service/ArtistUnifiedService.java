@@ -14,6 +14,8 @@ import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
 import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
 import com.dearwith.dearwith_backend.image.entity.Image;
+import com.dearwith.dearwith_backend.search.index.ArtistNameHits;
+import com.dearwith.dearwith_backend.search.index.ArtistNameIndexService;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +40,7 @@ public class ArtistUnifiedService {
     private final AssetUrlService assetUrlService;
     private final UserReader userReader;
     private final TodayAnniversaryCacheService cacheService;
+    private final ArtistNameIndexService artistNameIndexService;
 
     /*──────────────────────────────────────────────
      | 1. 이번 달 기념일(아티스트 생일 + 그룹 데뷔일)
@@ -264,6 +267,25 @@ public class ArtistUnifiedService {
             return Page.empty(pageable);
         }
 
+        // 이름 색인이 준비되었으면 요청 페이지만 색인에서 구성 (DB 조회 없음)
+        Optional<ArtistNameHits> hits = artistNameIndexService.search(
+                q, (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        if (hits.isPresent()) {
+            List<ArtistUnifiedDto> content = hits.get().entries().stream()
+                    .map(e -> new ArtistUnifiedDto(
+                            e.id(),
+                            e.nameKr(),
+                            e.imageUrl(),
+                            e.type(),
+                            null,
+                            e.type() == ArtistType.GROUP ? null : e.birthDate(),
+                            e.debutDate()
+                    ))
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.get().total());
+        }
+
+        // 색인 준비 전(기동 직후 등)에는 기존 DB 검색
         String qLower = q.toLowerCase();
 
         List<ArtistDto> artistList = artistService.searchForUnified(q);
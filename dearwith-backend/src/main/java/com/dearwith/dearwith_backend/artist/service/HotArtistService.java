@@ -6,14 +6,16 @@ import com.dearwith.dearwith_backend.artist.entity.ArtistGroup;
 import com.dearwith.dearwith_backend.artist.enums.ArtistType;
 import com.dearwith.dearwith_backend.artist.repository.ArtistGroupRepository;
 import com.dearwith.dearwith_backend.artist.repository.ArtistRepository;
+import com.dearwith.dearwith_backend.common.trending.TrendingEntry;
+import com.dearwith.dearwith_backend.common.trending.TrendingPolicy;
+import com.dearwith.dearwith_backend.common.trending.TrendingScoreEngine;
 import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,8 +23,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class HotArtistService {
 
-    private static final String HOT_ARTIST_KEY_PREFIX = "hot:artist:";
-    private static final String HOT_GROUP_KEY_PREFIX  = "hot:group:";
+    private static final String ARTIST_TRENDING_POLICY = "artist";
+    private static final String GROUP_TRENDING_POLICY  = "group";
     private static final String ARTIST_VIEW_DEDUP_PREFIX = "hot:viewed:artist:";
     private static final String GROUP_VIEW_DEDUP_PREFIX  = "hot:viewed:group:";
 
@@ -30,17 +32,22 @@ public class HotArtistService {
     private final ArtistRepository artistRepository;
     private final ArtistGroupRepository artistGroupRepository;
     private final AssetUrlService assetUrlService;
+    private final TrendingScoreEngine trendingScoreEngine;
+    private final Cache<Integer, List<HotArtistDtoResponseDto>> hotArtistsCache;
 
     // 같은 유저가 같은 아티스트/그룹에 대해 점수 올릴 수 있는 주기
     private static final Duration VIEW_DEDUP_DURATION = Duration.ofMinutes(30);
 
-    // 각 일자별 ZSET 키 TTL (최근 3일만 유지)
-    private static final Duration HOT_KEY_TTL = Duration.ofDays(3);
+    // 조회 1회당 기본 가중치 (app.trending.policies.<artist|group>.weights.view 로 조정)
+    private static final double DEFAULT_VIEW_WEIGHT = 1D;
+
+    private static final int HOT_LIMIT = 20;
+    private static final int CANDIDATE_MULTIPLIER = 2;
 
     /**
      * 아티스트 이벤트 목록 페이지 진입 시 호출
-     * - 동일 userId + artistId 조합에 대해 30분에 1점만 반영
-     * - 점수는 오늘자 키에 누적, 키는 3일 TTL
+     * - 동일 userId + artistId 조합에 대해 30분에 1번만 반영
+     * - 점수는 트렌딩 엔진(시간 감쇠)에 누적
      */
     public void recordArtistView(Long artistId, UUID userId) {
         // 비로그인 사용자는 중복 방지 없이 바로 카운트(정책에 따라 조정 가능)
@@ -77,119 +84,121 @@ public class HotArtistService {
     }
 
     private void incrementTodayArtistScore(Long artistId) {
-        String key = getTodayArtistKey();
-        redisTemplate.opsForZSet().incrementScore(key, artistId.toString(), 1D);
-        redisTemplate.expire(key, HOT_KEY_TTL);
+        recordView(ARTIST_TRENDING_POLICY, artistId);
     }
 
     private void incrementTodayGroupScore(Long groupId) {
-        String key = getTodayGroupKey();
-        redisTemplate.opsForZSet().incrementScore(key, groupId.toString(), 1D);
-        redisTemplate.expire(key, HOT_KEY_TTL);
-    }
-
-    private String getTodayArtistKey() {
-        return HOT_ARTIST_KEY_PREFIX + LocalDate.now();
+        recordView(GROUP_TRENDING_POLICY, groupId);
     }
 
-    private String getTodayGroupKey() {
-        return HOT_GROUP_KEY_PREFIX + LocalDate.now();
+    private void recordView(String policyName, Long id) {
+        TrendingPolicy policy = trendingScoreEngine.policy(policyName);
+        trendingScoreEngine.record(policy, id.toString(), policy.weight("view", DEFAULT_VIEW_WEIGHT));
     }
 
     /**
-     * 최근 3일(오늘 + 어제 + 그제) 누적 점수 기준 HOT 아티스트/그룹 TOP 20
+     * 시간 감쇠 트렌딩 점수 기준 HOT 아티스트/그룹 TOP 20
+     * - 짧은 TTL 로 응답 전체를 로컬 캐시 (비로그인 공개 API)
      */
     public List<HotArtistDtoResponseDto> getTop20() {
-        // 1) 최근 3일 키 목록
-        List<String> artistKeys = buildLast3DaysKeys(HOT_ARTIST_KEY_PREFIX);
-        List<String> groupKeys  = buildLast3DaysKeys(HOT_GROUP_KEY_PREFIX);
+        return hotArtistsCache.get(HOT_LIMIT, this::resolveTop);
+    }
 
-        // 2) 각 키의 점수를 ID 기준으로 합산
-        Map<Long, Long> artistScoreMap = aggregateScores(artistKeys);
-        Map<Long, Long> groupScoreMap  = aggregateScores(groupKeys);
+    private List<HotArtistDtoResponseDto> resolveTop(int limit) {
+        // 1) 아티스트/그룹 각각 상위 후보만 점수와 함께 조회 (삭제된 대상을 고려해 여유 있게)
+        int candidateSize = limit * CANDIDATE_MULTIPLIER;
+        List<TrendingEntry> artistTop = trendingScoreEngine.top(trendingScoreEngine.policy(ARTIST_TRENDING_POLICY), candidateSize);
+        List<TrendingEntry> groupTop  = trendingScoreEngine.top(trendingScoreEngine.policy(GROUP_TRENDING_POLICY), candidateSize);
 
-        // 3) DB 조회
-        Map<Long, Artist> artistMap = artistRepository.findAllById(artistScoreMap.keySet())
+        // 2) 두 목록 모두 점수 내림차순이므로 병합하며 상위 후보만 선택
+        List<Ranked> ranked = mergeRanked(artistTop, groupTop, candidateSize);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        // 3) 선택된 후보만 DB 조회
+        Map<Long, Artist> artistMap = artistRepository.findAllById(idsOf(ranked, ArtistType.ARTIST))
                 .stream()
                 .collect(Collectors.toMap(Artist::getId, a -> a));
 
-        Map<Long, ArtistGroup> groupMap = artistGroupRepository.findAllById(groupScoreMap.keySet())
+        Map<Long, ArtistGroup> groupMap = artistGroupRepository.findAllById(idsOf(ranked, ArtistType.GROUP))
                 .stream()
                 .collect(Collectors.toMap(ArtistGroup::getId, g -> g));
 
-        // 4) DTO 매핑
-        List<HotArtistDtoResponseDto> result = new ArrayList<>();
-
-        artistScoreMap.forEach((id, score) -> {
-            Artist artist = artistMap.get(id);
-            if (artist == null) return;
-
-            String imageUrl = null;
-            if (artist.getProfileImage() != null) {
-                imageUrl = assetUrlService.generatePublicUrl(artist.getProfileImage());
+        // 4) 순위 순서대로 limit 개까지만 DTO 매핑
+        List<HotArtistDtoResponseDto> result = new ArrayList<>(limit);
+
+        for (Ranked r : ranked) {
+            if (result.size() >= limit) break;
+
+            if (r.type() == ArtistType.ARTIST) {
+                Artist artist = artistMap.get(r.id());
+                if (artist == null) continue;
+
+                String imageUrl = null;
+                if (artist.getProfileImage() != null) {
+                    imageUrl = assetUrlService.generatePublicUrl(artist.getProfileImage());
+                }
+
+                result.add(HotArtistDtoResponseDto.builder()
+                        .id(r.id())
+                        .nameKr(artist.getNameKr())
+                        .imageUrl(imageUrl)
+                        .type(ArtistType.ARTIST)
+                        .score(r.score())
+                        .birthDate(artist.getBirthDate())
+                        .debutDate(null)
+                        .build());
+            } else {
+                ArtistGroup group = groupMap.get(r.id());
+                if (group == null) continue;
+
+                String imageUrl = assetUrlService.generatePublicUrl(group.getProfileImage());
+
+                result.add(HotArtistDtoResponseDto.builder()
+                        .id(r.id())
+                        .nameKr(group.getNameKr())
+                        .imageUrl(imageUrl)
+                        .type(ArtistType.GROUP)
+                        .score(r.score())
+                        .birthDate(null)
+                        .debutDate(group.getDebutDate())
+                        .build());
             }
+        }
 
-            result.add(HotArtistDtoResponseDto.builder()
-                    .id(id)
-                    .nameKr(artist.getNameKr())
-                    .imageUrl(imageUrl)
-                    .type(ArtistType.ARTIST)
-                    .score(score)
-                    .birthDate(artist.getBirthDate())
-                    .debutDate(null)
-                    .build());
-        });
-
-        groupScoreMap.forEach((id, score) -> {
-            ArtistGroup group = groupMap.get(id);
-            if (group == null) return;
-
-            String imageUrl = assetUrlService.generatePublicUrl(group.getProfileImage());
-
-            result.add(HotArtistDtoResponseDto.builder()
-                    .id(id)
-                    .nameKr(group.getNameKr())
-                    .imageUrl(imageUrl)
-                    .type(ArtistType.GROUP)
-                    .score(score)
-                    .birthDate(null)
-                    .debutDate(group.getDebutDate())
-                    .build());
-        });
-
-        // 5) 점수 기준으로 통합 정렬 후 TOP 20만 반환
-        return result.stream()
-                .sorted(Comparator.comparingLong(HotArtistDtoResponseDto::getScore).reversed())
-                .limit(20)
-                .toList();
-    }
-
-    // prefix + yyyy-MM-dd 형태의 최근 3일 키 생성
-    private List<String> buildLast3DaysKeys(String prefix) {
-        LocalDate today = LocalDate.now();
-        return List.of(
-                prefix + today,
-                prefix + today.minusDays(1),
-                prefix + today.minusDays(2)
-        );
+        return List.copyOf(result);
     }
 
-    // 여러 ZSET의 점수를 ID 기준으로 합산
-    private Map<Long, Long> aggregateScores(List<String> keys) {
-        Map<Long, Long> scoreMap = new HashMap<>();
+    // 점수 내림차순 두 목록을 하나의 순위 목록으로 병합 (최대 size 개)
+    private List<Ranked> mergeRanked(List<TrendingEntry> artists, List<TrendingEntry> groups, int size) {
+        List<Ranked> merged = new ArrayList<>(Math.min(size, artists.size() + groups.size()));
+        int i = 0, j = 0;
 
-        for (String key : keys) {
-            Set<ZSetOperations.TypedTuple<String>> tuples =
-                    redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
-            if (tuples == null) continue;
+        while (merged.size() < size && (i < artists.size() || j < groups.size())) {
+            boolean takeArtist = j >= groups.size()
+                    || (i < artists.size() && artists.get(i).score() >= groups.get(j).score());
 
-            for (ZSetOperations.TypedTuple<String> t : tuples) {
-                Long id = Long.valueOf(t.getValue());
-                long score = t.getScore() == null ? 0L : t.getScore().longValue();
-                scoreMap.merge(id, score, Long::sum);
+            if (takeArtist) {
+                merged.add(Ranked.of(ArtistType.ARTIST, artists.get(i++)));
+            } else {
+                merged.add(Ranked.of(ArtistType.GROUP, groups.get(j++)));
             }
         }
 
-        return scoreMap;
+        return merged;
+    }
+
+    private List<Long> idsOf(List<Ranked> ranked, ArtistType type) {
+        return ranked.stream()
+                .filter(r -> r.type() == type)
+                .map(Ranked::id)
+                .toList();
+    }
+
+    private record Ranked(ArtistType type, Long id, long score) {
+        static Ranked of(ArtistType type, TrendingEntry entry) {
+            return new Ranked(type, Long.valueOf(entry.member()), Math.round(entry.score()));
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.dearwith.dearwith_backend.auth.dto;
+
+import com.dearwith.dearwith_backend.user.entity.User;
+import com.dearwith.dearwith_backend.user.enums.Role;
+import com.dearwith.dearwith_backend.user.enums.UserStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 인증 필터에서 사용하는 사용자 요약 정보 (캐시 대상)
+ * - User 엔티티 대신 인증/인가에 필요한 값만 보관
+ */
+public record AuthPrincipalSnapshot(
+        UUID id,
+        String email,
+        Role role,
+        UserStatus userStatus,
+        LocalDate suspendedUntil,
+        boolean deleted,
+        boolean eventNotificationEnabled,
+        boolean serviceNotificationEnabled
+) {
+    public static AuthPrincipalSnapshot from(User user) {
+        return new AuthPrincipalSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getUserStatus(),
+                user.getSuspendedUntil(),
+                user.isDeleted(),
+                user.isEventNotificationEnabled(),
+                user.isServiceNotificationEnabled()
+        );
+    }
+}
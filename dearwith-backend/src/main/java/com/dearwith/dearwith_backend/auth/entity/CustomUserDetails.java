@@ -1,21 +1,20 @@
 package com.dearwith.dearwith_backend.auth.entity;
 
+import com.dearwith.dearwith_backend.auth.dto.AuthPrincipalSnapshot;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.enums.Role;
 import com.dearwith.dearwith_backend.user.enums.UserStatus;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDate;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
 
@@ -24,12 +23,15 @@ public class CustomUserDetails implements UserDetails {
     private final String password;
     private final Role role;
     private final UserStatus userStatus;
-    private final User user;
+    private final LocalDate suspendedUntil;
+    private final boolean deleted;
+    private final boolean eventNotificationEnabled;
+    private final boolean serviceNotificationEnabled;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
         );
     }
 
@@ -63,12 +65,29 @@ public class CustomUserDetails implements UserDetails {
         return true;
     }
 
+    // 이메일 로그인 (비밀번호 검증 필요)
     public CustomUserDetails(User user) {
         this.id = user.getId();
         this.email = user.getEmail();
         this.password = user.getPassword();
         this.role = user.getRole();
         this.userStatus = user.getUserStatus();
-        this.user = user;
+        this.suspendedUntil = user.getSuspendedUntil();
+        this.deleted = user.isDeleted();
+        this.eventNotificationEnabled = user.isEventNotificationEnabled();
+        this.serviceNotificationEnabled = user.isServiceNotificationEnabled();
+    }
+
+    // 토큰 인증 (캐시된 요약 정보, 엔티티/비밀번호 없음)
+    public CustomUserDetails(AuthPrincipalSnapshot principal) {
+        this.id = principal.id();
+        this.email = principal.email();
+        this.password = null;
+        this.role = principal.role();
+        this.userStatus = principal.userStatus();
+        this.suspendedUntil = principal.suspendedUntil();
+        this.deleted = principal.deleted();
+        this.eventNotificationEnabled = principal.eventNotificationEnabled();
+        this.serviceNotificationEnabled = principal.serviceNotificationEnabled();
     }
 }
@@ -0,0 +1,43 @@
+package com.dearwith.dearwith_backend.auth.service;
+
+import com.dearwith.dearwith_backend.auth.dto.AuthPrincipalSnapshot;
+import com.dearwith.dearwith_backend.user.event.UserPrincipalChangedEvent;
+import com.dearwith.dearwith_backend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AuthPrincipalService {
+
+    public static final String CACHE_NAME = "authPrincipals";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 토큰 인증 시 사용자 요약 정보 조회
+     * - 2단계 캐시(L1 Caffeine / L2 Redis)에 짧은 TTL 로 보관
+     * - 상태 변경 시 UserPrincipalChangedEvent 로 무효화
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#userId")
+    @Transactional(readOnly = true)
+    public AuthPrincipalSnapshot load(UUID userId) {
+        return userRepository.findById(userId)
+                .map(AuthPrincipalSnapshot::from)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
+    }
+
+    @CacheEvict(cacheNames = CACHE_NAME, key = "#event.userId()")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserPrincipalChanged(UserPrincipalChangedEvent event) {
+        // 캐시 무효화는 @CacheEvict 가 처리
+    }
+}
@@ -14,6 +14,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final AuthPrincipalService authPrincipalService;
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         return userRepository.findByEmailAndDeletedAtIsNull(email)
@@ -23,9 +24,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 
 
     public UserDetails loadUserById(UUID userId) {
-        return userRepository.findById((userId))
-                .map(CustomUserDetails::new)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
+        // 엔티티 조회 없이 캐시된 요약 정보로 구성
+        return new CustomUserDetails(authPrincipalService.load(userId));
     }
 }
 
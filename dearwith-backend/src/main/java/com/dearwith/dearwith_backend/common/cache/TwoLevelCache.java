@@ -0,0 +1,130 @@
+package com.dearwith.dearwith_backend.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 캐시
+ * - 조회: L1 → L2 → (없으면 호출 측 로딩), L2 에서 찾은 값은 L1 에 적재
+ * - 변경(put/evict/clear): L2 반영 후 L1 반영, 다른 노드에는 L1 무효화 메시지 발행
+ * - L1 키는 L2(RedisCache) 와 같이 문자열로 변환한 키 사용
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+
+    TwoLevelCache(String name,
+                  com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                  Cache remote,
+                  TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+
+        String localKey = toLocalKey(key);
+        if (value == null) {
+            local.invalidate(localKey);
+        } else {
+            local.put(localKey, value);
+        }
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishClear(name);
+    }
+
+    /*──────────────────────────────────────────────
+     | 다른 노드의 무효화 메시지 처리 (L1 만 비움)
+     *──────────────────────────────────────────────*/
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dearwith.dearwith_backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 CacheManager
+ * - 캐시 이름별 L1 크기/TTL 은 app.cache.caches.<name> 로 설정
+ * - 노드 간 L1 무효화는 Redis pub/sub (자기 노드가 보낸 메시지는 무시)
+ *
+ * 메시지 형식: origin \n op(E|C) \n cacheName \n key
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+    private static final String SEPARATOR = "\n";
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                TwoLevelCacheProperties properties,
+                                StringRedisTemplate redisTemplate) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache remote = redisCacheManager.getCache(n);
+            if (remote == null) return null;
+
+            TwoLevelCacheProperties.Spec spec = properties.specOf(n);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(spec.getLocalMaxSize())
+                    .expireAfterWrite(spec.getLocalTtl())
+                    .build();
+
+            return new TwoLevelCache(n, local, remote, this);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /*──────────────────────────────────────────────
+     | 무효화 메시지 발행 (실패해도 캐시 연산은 계속 진행)
+     *──────────────────────────────────────────────*/
+    void publishEvict(String cacheName, String key) {
+        publish(OP_EVICT, cacheName, key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(OP_CLEAR, cacheName, "");
+    }
+
+    private void publish(String op, String cacheName, String key) {
+        String payload = String.join(SEPARATOR, nodeId, op, cacheName, key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("[cache] invalidation publish failed. cache={}, op={}", cacheName, op, e);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 다른 노드의 무효화 메시지 수신
+     *──────────────────────────────────────────────*/
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) return;
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) return;
+
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
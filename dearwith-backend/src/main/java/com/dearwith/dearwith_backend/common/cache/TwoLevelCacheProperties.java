@@ -0,0 +1,35 @@
+package com.dearwith.dearwith_backend.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoLevelCacheProperties {
+
+    // 캐시별 설정이 없을 때 사용
+    private Spec defaults = new Spec();
+
+    // 캐시 이름 → L1/L2 설정
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specOf(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter @Setter
+    public static class Spec {
+        // L1 (Caffeine, 노드 로컬)
+        private long localMaxSize = 1_000;
+        private Duration localTtl = Duration.ofMinutes(5);
+        // L2 (Redis, 노드 공유)
+        private Duration remoteTtl = Duration.ofHours(24);
+    }
+}
@@ -1,9 +1,130 @@
 package com.dearwith.dearwith_backend.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * @Async 기본 실행기
+     * - 전용 실행기를 빈으로 등록하면 Boot 기본 applicationTaskExecutor 가 빠지므로 같은 설정으로 명시 등록
+     */
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 메인페이지 섹션 병렬 조회 전용 실행기
+     * - 섹션 수만큼의 작은 고정 풀 (DB 커넥션 풀을 과점하지 않도록)
+     */
+    @Bean(name = "mainPageSectionExecutor")
+    public ThreadPoolTaskExecutor mainPageSectionExecutor(
+            @Value("${app.main-page.parallel.pool-size:6}") int poolSize,
+            @Value("${app.main-page.parallel.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("main-section-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 전체 유저 알림 팬아웃 전용 실행기
+     * - 작업 하나가 청크 단위로 오래 실행되므로 작은 풀, 넘치면 거절 → 재개 스케줄러가 다시 제출
+     */
+    @Bean(name = "notificationFanOutExecutor")
+    public ThreadPoolTaskExecutor notificationFanOutExecutor(
+            @Value("${app.notification.fanout.pool-size:2}") int poolSize,
+            @Value("${app.notification.fanout.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 검색 색인 전체 재구성 전용 실행기
+     * - 스케줄러 스레드를 오래 점유하지 않도록 재색인은 여기서 실행, 한 번에 하나씩
+     * - 이미 대기 중인 재색인이 있으면 새 요청은 버림 (다음 주기에 다시 실행)
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 푸시 아웃박스 발송 전용 실행기
+     * - 동시 발송 수는 PushOutboxDispatcher 가 세마포어로 제한 (여기 큐가 넘치지 않음)
+     * - 이미지 처리 등 @Async 기본 실행기와 풀을 공유하지 않음
+     */
+    @Bean(name = "pushDispatchExecutor")
+    public ThreadPoolTaskExecutor pushDispatchExecutor(
+            @Value("${app.push.outbox.concurrency:4}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("push-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * FCM 멀티캐스트 배치 전송 전용 실행기
+     * - 발송당 동시 배치 수는 FcmMulticastSender 가 제한, 큐가 넘치면 호출 스레드에서 직접 전송
+     */
+    @Bean(name = "fcmSendExecutor")
+    public ThreadPoolTaskExecutor fcmSendExecutor(
+            @Value("${app.push.fcm.concurrency:8}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency * 8);
+        executor.setThreadNamePrefix("fcm-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 푸시 재시도 작업 처리 전용 실행기
+     * - 동시 작업 수는 PushNotificationService 가 세마포어로 제한 (선점한 만큼만 제출)
+     */
+    @Bean(name = "pushRetryExecutor")
+    public ThreadPoolTaskExecutor pushRetryExecutor(
+            @Value("${app.push.retry.concurrency:4}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("push-retry-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
 }
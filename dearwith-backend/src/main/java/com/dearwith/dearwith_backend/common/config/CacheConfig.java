@@ -1,6 +1,8 @@
 package com.dearwith.dearwith_backend.common.config;
 
+import com.dearwith.dearwith_backend.artist.dto.HotArtistDtoResponseDto;
 import com.dearwith.dearwith_backend.external.x.XVerifyPayload;
+import com.dearwith.dearwith_backend.search.dto.PopularSearchDto;
 import com.dearwith.dearwith_backend.user.dto.EmailVerifyPayload;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -9,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class CacheConfig {
@@ -41,4 +44,50 @@ public class CacheConfig {
                 .maximumSize(1_000_000)
                 .build();
     }
+
+    @Bean
+    public Cache<Integer, List<Long>> hotEventIdsCache(
+            @Value("${app.hot.event.ids-cache-ttl-seconds:30}") long ttlSeconds
+    ) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(16)
+                .build();
+    }
+
+    @Bean
+    public Cache<String, Boolean> hotEventViewedCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(6))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Bean
+    public Cache<Integer, List<HotArtistDtoResponseDto>> hotArtistsCache(
+            @Value("${app.hot.artist.cache-ttl-seconds:30}") long ttlSeconds
+    ) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(4)
+                .build();
+    }
+
+    @Bean
+    public Cache<Integer, List<PopularSearchDto>> popularSearchCache(
+            @Value("${app.search.popular.cache-ttl-seconds:60}") long ttlSeconds
+    ) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(8)
+                .build();
+    }
+
+    @Bean
+    public Cache<String, Boolean> popularSearchDedupCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(1))
+                .maximumSize(100_000)
+                .build();
+    }
 }
@@ -1,6 +1,10 @@
 package com.dearwith.dearwith_backend.common.config;
 
 import com.dearwith.dearwith_backend.artist.dto.MonthlyAnniversaryCacheDto;
+import com.dearwith.dearwith_backend.auth.dto.AuthPrincipalSnapshot;
+import com.dearwith.dearwith_backend.auth.service.AuthPrincipalService;
+import com.dearwith.dearwith_backend.common.cache.TwoLevelCacheManager;
+import com.dearwith.dearwith_backend.common.cache.TwoLevelCacheProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -11,18 +15,24 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
-import java.time.Duration;
-
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
+    private static final String TODAY_ANNIVERSARIES = "todayAnniversaries";
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory cf) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory cf,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             TwoLevelCacheProperties properties) {
 
         ObjectMapper om = JsonMapper.builder()
                 .addModule(new JavaTimeModule())
@@ -33,17 +43,37 @@ public class RedisCacheConfig {
         var defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(defaultSerializer))
                 .disableCachingNullValues()
-                .entryTtl(Duration.ofHours(24));
+                .entryTtl(properties.getDefaults().getRemoteTtl());
 
-        var annivSerializer = new Jackson2JsonRedisSerializer<>(om, MonthlyAnniversaryCacheDto.class);
-        var annivConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(annivSerializer))
-                .disableCachingNullValues()
-                .entryTtl(Duration.ofHours(24));
+        var builder = RedisCacheManager.builder(cf)
+                .cacheDefaults(defaultConfig);
 
-        return RedisCacheManager.builder(cf)
-                .cacheDefaults(defaultConfig)
-                .withCacheConfiguration("todayAnniversaries", annivConfig)
-                .build();
+        // 캐시별 L2 TTL
+        properties.getCaches().forEach((name, spec) ->
+                builder.withCacheConfiguration(name, defaultConfig.entryTtl(spec.getRemoteTtl())));
+
+        // 값 타입이 고정된 캐시는 타입 지정 직렬화
+        builder.withCacheConfiguration(TODAY_ANNIVERSARIES,
+                typedConfig(om, MonthlyAnniversaryCacheDto.class, properties.specOf(TODAY_ANNIVERSARIES)));
+        builder.withCacheConfiguration(AuthPrincipalService.CACHE_NAME,
+                typedConfig(om, AuthPrincipalSnapshot.class, properties.specOf(AuthPrincipalService.CACHE_NAME)));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        // 빈으로 등록하지 않으므로 캐시별 설정 로딩을 직접 수행
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager =
+                new TwoLevelCacheManager(redisCacheManager, properties, stringRedisTemplate);
+        redisMessageListenerContainer.addMessageListener(
+                cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
+    }
+
+    private <T> RedisCacheConfiguration typedConfig(ObjectMapper om, Class<T> type, TwoLevelCacheProperties.Spec spec) {
+        var serializer = new Jackson2JsonRedisSerializer<>(om, type);
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .disableCachingNullValues()
+                .entryTtl(spec.getRemoteTtl());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.dearwith.dearwith_backend.common.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 기본 스케줄러 (정리 배치, 재색인 트리거, 버퍼 flush 등)
+     * - 전용 스케줄러를 빈으로 등록하면 Boot 기본 taskScheduler 가 빠지므로 같은 설정으로 명시 등록
+     * - 풀 크기는 spring.task.scheduling.pool.size
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 푸시 폴링 전용 스케줄러 (아웃박스 / 재시도 큐)
+     * - 04시 정리 배치나 재색인이 기본 스케줄러를 오래 점유해도 푸시 발송이 멈추지 않도록 분리
+     * - 폴러는 선점과 제출만 하고 실제 발송은 각자의 실행기에서 처리
+     */
+    @Bean(name = "pushScheduler")
+    public ThreadPoolTaskScheduler pushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("push-poll-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -171,6 +171,8 @@ public class SecurityConfig {
                                 // 검색
                                 "/api/search/artists",
                                 "/api/search/artists/artists-groups",
+                                "/api/search/suggest",
+                                "/api/search/popular",
                                 "/api/places/**",
 
                                 // 공지 조회
@@ -200,7 +202,9 @@ public class SecurityConfig {
                                 "/api/artists",                // 아티스트 목록
                                 "/api/groups",                 // 그룹 목록
                                 "/api/artists/*/events",       // 특정 아티스트의 이벤트 목록
-                                "/api/groups/*/events"         // 특정 그룹의 이벤트 목록
+                                "/api/artists/*/events/cursor",
+                                "/api/groups/*/events",        // 특정 그룹의 이벤트 목록
+                                "/api/groups/*/events/cursor"
                         ).permitAll()
 
                         // ===== 관리자 전용 API =====
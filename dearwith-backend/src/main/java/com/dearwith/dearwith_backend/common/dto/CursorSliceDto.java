@@ -0,0 +1,19 @@
+package com.dearwith.dearwith_backend.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (무한 스크롤용)
+ * - COUNT 조회 없이 다음 페이지 존재 여부와 다음 커서만 제공
+ * - nextCursor 는 불투명 문자열로, 그대로 다음 요청의 cursor 로 전달
+ */
+public record CursorSliceDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public <R> CursorSliceDto<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorSliceDto<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext);
+    }
+}
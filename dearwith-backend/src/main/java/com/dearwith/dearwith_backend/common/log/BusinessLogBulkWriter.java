@@ -0,0 +1,124 @@
+package com.dearwith.dearwith_backend.common.log;
+
+import com.dearwith.dearwith_backend.logging.entity.BusinessLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 비즈니스 로그 대량 INSERT (JDBC multi-row)
+ * - BusinessLogService 의 백그라운드 flush 에서만 호출 → 트랜잭션 없이 문장 단위 auto-commit
+ * - 컬럼 길이를 넘는 값은 잘라서 저장 (한 건 때문에 배치 전체가 실패하지 않도록)
+ * - 배치 INSERT 가 실패하면 한 건씩 다시 시도하고, 그래도 실패한 건만 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessLogBulkWriter {
+
+    public static final int ROWS_PER_STATEMENT = 200;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO business_log
+                (category, level, action, message,
+                 actor_user_id, actor_ip, user_agent,
+                 request_uri, http_method, trace_id,
+                 target_type, target_id,
+                 detail_json, error_stack_trace,
+                 created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final Calendar UTC = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return INSERT 된 행 수
+     */
+    public int insert(List<BusinessLog> logs) {
+        if (logs == null || logs.isEmpty()) return 0;
+
+        int inserted = 0;
+        for (int from = 0; from < logs.size(); from += ROWS_PER_STATEMENT) {
+            List<BusinessLog> chunk = logs.subList(from, Math.min(from + ROWS_PER_STATEMENT, logs.size()));
+            try {
+                inserted += jdbcTemplate.update(sql(chunk.size()), ps -> {
+                    int i = 1;
+                    for (BusinessLog row : chunk) {
+                        i = bind(ps, i, row);
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("[business-log] batch insert failed, retrying one by one. rows={}", chunk.size(), e);
+                inserted += insertOneByOne(chunk);
+            }
+        }
+        return inserted;
+    }
+
+    private int insertOneByOne(List<BusinessLog> chunk) {
+        int inserted = 0;
+        for (BusinessLog row : chunk) {
+            try {
+                inserted += jdbcTemplate.update(sql(1), ps -> bind(ps, 1, row));
+            } catch (Exception e) {
+                log.error("[business-log] insert failed, dropped. action={}, message={}",
+                        row.getAction(), row.getMessage(), e);
+            }
+        }
+        return inserted;
+    }
+
+    private static int bind(PreparedStatement ps, int i, BusinessLog row) throws SQLException {
+        Timestamp createdAt = Timestamp.from(row.getCreatedAt() != null ? row.getCreatedAt() : Instant.now());
+
+        ps.setString(i++, row.getCategory().name());
+        ps.setString(i++, row.getLevel().name());
+        ps.setString(i++, truncate(row.getAction(), 100));
+        ps.setString(i++, truncate(row.getMessage() != null ? row.getMessage() : "", 500));
+
+        ps.setBytes(i++, toBytes(row.getActorUserId()));
+        ps.setString(i++, truncate(row.getActorIp(), 50));
+        ps.setString(i++, truncate(row.getUserAgent(), 300));
+
+        ps.setString(i++, truncate(row.getRequestUri(), 300));
+        ps.setString(i++, truncate(row.getHttpMethod(), 10));
+        ps.setString(i++, truncate(row.getTraceId(), 100));
+
+        ps.setString(i++, truncate(row.getTargetType(), 100));
+        ps.setString(i++, truncate(row.getTargetId(), 255));
+
+        ps.setString(i++, row.getDetailJson());
+        ps.setString(i++, row.getErrorStackTrace());
+
+        ps.setTimestamp(i++, createdAt, (Calendar) UTC.clone());
+        ps.setTimestamp(i++, createdAt, (Calendar) UTC.clone());
+        return i;
+    }
+
+    private static String sql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) return value;
+        return value.substring(0, maxLength);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        if (uuid == null) return null;
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -5,25 +5,91 @@ import com.dearwith.dearwith_backend.logging.context.LogContextHolder;
 import com.dearwith.dearwith_backend.logging.entity.BusinessLog;
 import com.dearwith.dearwith_backend.logging.enums.BusinessLogCategory;
 import com.dearwith.dearwith_backend.logging.enums.LogLevel;
-import com.dearwith.dearwith_backend.logging.repository.BusinessLogRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 비즈니스 로그 기록
+ * - 호출 스레드에서는 엔티티만 만들어 고정 크기 버퍼에 적재 → 전용 writer 스레드가 multi-row INSERT
+ * - 저장은 별도 스레드의 auto-commit 이라 호출 측 트랜잭션에 참여하지 않음 (롤백돼도 로그는 남음)
+ * - 적재는 대기하지 않음 (호출 스레드 비용 없음), 버퍼 사용률에 따른 레벨별 정책
+ *   - INFO : info-max-fill 이상이면 버림
+ *   - WARN : warn-max-fill 이상이면 버림
+ *   - ERROR: 빈 자리가 없을 때만 버림 (나머지 공간은 ERROR 용)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BusinessLogService {
 
-    private final BusinessLogRepository businessLogRepository;
+    private final BusinessLogBulkWriter businessLogBulkWriter;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.business-log.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${app.business-log.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${app.business-log.info-max-fill:0.8}")
+    private double infoMaxFill;
+
+    @Value("${app.business-log.warn-max-fill:0.95}")
+    private double warnMaxFill;
+
+    @Value("${app.business-log.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<BusinessLog> buffer;
+    private int infoThreshold;
+    private int warnThreshold;
+    private Thread writer;
+    private volatile boolean running = true;
+    private final Map<LogLevel, Counter> droppedCounters = new EnumMap<>(LogLevel.class);
+    private Counter writtenCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        infoThreshold = (int) (bufferCapacity * infoMaxFill);
+        warnThreshold = (int) (bufferCapacity * warnMaxFill);
+
+        Gauge.builder("business.log.buffer.depth", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        for (LogLevel level : LogLevel.values()) {
+            droppedCounters.put(level, meterRegistry.counter("business.log.dropped", "level", level.name()));
+        }
+        writtenCounter = meterRegistry.counter("business.log.written");
+        flushTimer = meterRegistry.timer("business.log.flush");
+
+        writer = new Thread(this::writeLoop, "business-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
 
     /* ===========================
      *  편의 메서드 (INFO / ERROR)
@@ -112,8 +178,9 @@ public class BusinessLogService {
                     .detailJson(detailJson)
                     .errorStackTrace(stackTrace)
                     .build();
+            logEntity.setCreatedAt(Instant.now());
 
-            businessLogRepository.save(logEntity);
+            enqueue(logEntity);
 
             // 애플리케이션 로그에도 함께 출력(원하면 포맷 줄이거나 제거)
             if (level == LogLevel.ERROR) {
@@ -133,6 +200,71 @@ public class BusinessLogService {
         }
     }
 
+    /* ===========================
+     *  버퍼 / 백그라운드 저장
+     * =========================== */
+
+    private void enqueue(BusinessLog logEntity) {
+        boolean accepted = switch (logEntity.getLevel()) {
+            case INFO -> buffer.size() < infoThreshold && buffer.offer(logEntity);
+            case WARN -> buffer.size() < warnThreshold && buffer.offer(logEntity);
+            case ERROR -> buffer.offer(logEntity);
+        };
+
+        if (!accepted) {
+            droppedCounters.get(logEntity.getLevel()).increment();
+        }
+    }
+
+    /**
+     * writer 스레드: 버퍼에 로그가 들어오면 깨어나 쌓인 만큼(최대 flush-batch-size) 한 번에 저장
+     * - 스케줄러 풀과 분리 → 다른 배치가 오래 걸려도 버퍼가 밀리지 않음
+     */
+    private void writeLoop() {
+        while (running) {
+            try {
+                BusinessLog first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                List<BusinessLog> batch = new ArrayList<>(Math.min(buffer.size() + 1, flushBatchSize));
+                batch.add(first);
+                buffer.drainTo(batch, flushBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[business-log] writer loop error", e);
+            }
+        }
+    }
+
+    private void write(List<BusinessLog> batch) {
+        long start = System.nanoTime();
+        try {
+            writtenCounter.increment(businessLogBulkWriter.insert(batch));
+        } catch (Exception e) {
+            log.error("[business-log] flush failed. dropped={}", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() throws InterruptedException {
+        // 진행 중인 INSERT 는 끝내고 종료 (poll 대기는 flush-interval-ms 안에 깨어남)
+        running = false;
+        writer.join(flushIntervalMs + TimeUnit.SECONDS.toMillis(5));
+        writer.interrupt();
+
+        // 남은 로그는 종료 스레드에서 저장
+        while (!buffer.isEmpty()) {
+            List<BusinessLog> batch = new ArrayList<>(flushBatchSize);
+            buffer.drainTo(batch, flushBatchSize);
+            write(batch);
+        }
+    }
+
     private String toJsonSafe(Map<String, Object> details) {
         if (details == null || details.isEmpty()) {
             return null;
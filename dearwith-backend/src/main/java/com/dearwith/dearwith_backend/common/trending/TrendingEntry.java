@@ -0,0 +1,7 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+/**
+ * 트렌딩 조회 결과 (점수는 현재 시각 기준으로 감쇠 적용된 값)
+ */
+public record TrendingEntry(String member, double score) {
+}
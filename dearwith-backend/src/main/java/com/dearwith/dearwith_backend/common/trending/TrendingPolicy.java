@@ -0,0 +1,31 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 트렌딩 점수 정책 (엔티티 종류별 1개)
+ * - key      : 점수 ZSET 키 (예: trending:event)
+ * - epochKey : 점수 기준 시각(ms) 저장 키
+ */
+public record TrendingPolicy(
+        String name,
+        Duration halfLife,
+        Map<String, Double> weights,
+        double pruneBelow
+) {
+    private static final String KEY_PREFIX = "trending:";
+
+    public String key() {
+        return KEY_PREFIX + name;
+    }
+
+    public String epochKey() {
+        return KEY_PREFIX + name + ":epoch";
+    }
+
+    public double weight(String action, double defaultWeight) {
+        return weights.getOrDefault(action.toLowerCase(Locale.ROOT), defaultWeight);
+    }
+}
@@ -0,0 +1,31 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+
+    // 경과 시간이 half-life 의 N배를 넘으면 저장 점수를 현재 시각 기준으로 재기준화
+    private int rebaseAfterHalfLives = 8;
+
+    // 정책 이름(event, artist, group ...) → 정책 설정
+    private Map<String, Policy> policies = new HashMap<>();
+
+    @Getter @Setter
+    public static class Policy {
+        private Duration halfLife = Duration.ofHours(24);
+        // 액션 이름(소문자) → 가중치. 없는 액션은 호출 측 기본값 사용
+        private Map<String, Double> weights = new HashMap<>();
+        // 현재 시각 기준 점수가 이 값보다 작아진 멤버는 정리
+        private double pruneBelow = 0.05;
+    }
+}
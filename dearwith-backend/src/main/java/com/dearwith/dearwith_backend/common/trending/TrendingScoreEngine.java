@@ -0,0 +1,189 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지수 감쇠(exponential decay) 트렌딩 점수 엔진
+ *
+ * - 점수는 정책별 ZSET 1개에 저장 (일자별 버킷/합산 없음)
+ * - forward decay: 시각 t 의 가중치 w 를 w * 2^((t - epoch) / halfLife) 로 적립
+ *   → 오래된 점수를 건드리지 않아도 상대적으로 감쇠되고, 갱신은 ZINCRBY 1회(O(log n))
+ * - 저장 점수가 계속 커지므로 주기적으로 epoch 를 현재로 옮기며 전체 점수를 나눠 재기준화
+ * - 조회 점수 = 저장 점수 / 2^((now - epoch) / halfLife)
+ * - 차감(음수 가중치)은 현재 시각 기준이라 적립 당시 기여분보다 크므로 결과가 0 미만이면 0 으로 고정
+ *   (한 half-life 뒤 취소하면 2배, 세 번 뒤면 8배를 빼게 됨 → 아무도 건드리지 않은 멤버보다 낮아지지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingScoreEngine {
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=점수 ZSET, KEYS[2]=epoch
+     | ARGV[1]=now(ms), ARGV[2]=halfLife(ms), ARGV[3..]=member, weight 쌍
+     | epoch 조회와 ZINCRBY 를 원자적으로 처리해 리베이스와 경합하지 않음
+     | 차감 결과가 0 미만이면 0 으로 고정
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+              epoch = now
+              redis.call('SET', KEYS[2], ARGV[1])
+            end
+            local factor = 2 ^ ((now - epoch) / halfLife)
+            for i = 3, #ARGV, 2 do
+              local score = tonumber(redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[i + 1]) * factor, ARGV[i]))
+              if score < 0 then
+                redis.call('ZADD', KEYS[1], 0, ARGV[i])
+              end
+            end
+            return (#ARGV - 2) / 2
+            """, Long.class);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=점수 ZSET, KEYS[2]=epoch
+     | ARGV[1]=now(ms), ARGV[2]=halfLife(ms), ARGV[3]=리베이스 기준(half-life 배수), ARGV[4]=정리 기준 점수
+     | - 기준 미만: 감쇠된 점수가 정리 기준보다 작은 멤버만 삭제
+     | - 기준 이상: ZUNIONSTORE WEIGHTS 로 전체 점수를 나누고 epoch 를 now 로 이동
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> MAINTAIN_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local rebaseAfter = tonumber(ARGV[3])
+            local pruneBelow = tonumber(ARGV[4])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then return 0 end
+            local elapsed = (now - epoch) / halfLife
+            if elapsed < rebaseAfter then
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. (pruneBelow * 2 ^ elapsed))
+              return 0
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ (-elapsed))
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. pruneBelow)
+            end
+            redis.call('SET', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrendingProperties properties;
+
+    private final Map<String, TrendingPolicy> policies = new ConcurrentHashMap<>();
+
+    /**
+     * 정책 이름으로 정책 조회 (설정이 없으면 기본 half-life/가중치 사용)
+     */
+    public TrendingPolicy policy(String name) {
+        return policies.computeIfAbsent(name, n -> {
+            TrendingProperties.Policy p = properties.getPolicies()
+                    .getOrDefault(n, new TrendingProperties.Policy());
+            return new TrendingPolicy(n, p.getHalfLife(), Map.copyOf(p.getWeights()), p.getPruneBelow());
+        });
+    }
+
+    /**
+     * 단건 점수 적립 (음수 가중치로 차감 가능, 결과는 0 미만으로 내려가지 않음)
+     */
+    public void record(TrendingPolicy policy, String member, double weight) {
+        if (member == null || weight == 0D) return;
+        recordAll(policy, Map.of(member, weight));
+    }
+
+    /**
+     * 여러 멤버 점수를 한 번의 스크립트 호출로 적립
+     */
+    public void recordAll(TrendingPolicy policy, Map<String, Double> weights) {
+        if (weights == null || weights.isEmpty()) return;
+
+        List<String> args = new ArrayList<>(2 + weights.size() * 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(policy.halfLife().toMillis()));
+        weights.forEach((member, weight) -> {
+            args.add(member);
+            args.add(String.valueOf(weight));
+        });
+
+        redisTemplate.execute(
+                INCREMENT_SCRIPT,
+                List.of(policy.key(), policy.epochKey()),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 상위 N개 조회 (점수 내림차순, limit <= 0 이면 전체)
+     */
+    public List<TrendingEntry> top(TrendingPolicy policy, int limit) {
+        long end = limit <= 0 ? -1 : limit - 1;
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(policy.key(), 0, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        double factor = currentFactor(policy);
+        List<TrendingEntry> result = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            double score = t.getScore() == null ? 0D : t.getScore() / factor;
+            result.add(new TrendingEntry(t.getValue(), score));
+        }
+        return result;
+    }
+
+    /**
+     * 멤버 제거 (삭제된 엔티티 등)
+     */
+    public void remove(TrendingPolicy policy, String member) {
+        redisTemplate.opsForZSet().remove(policy.key(), member);
+    }
+
+    /**
+     * 감쇠로 작아진 멤버 정리 + 필요 시 리베이스
+     */
+    @Scheduled(fixedDelayString = "${app.trending.maintain-interval-ms:600000}")
+    public void maintain() {
+        Set<String> names = new HashSet<>(properties.getPolicies().keySet());
+        names.addAll(policies.keySet());
+
+        long now = System.currentTimeMillis();
+        for (String name : names) {
+            TrendingPolicy policy = policy(name);
+            try {
+                Long rebased = redisTemplate.execute(
+                        MAINTAIN_SCRIPT,
+                        List.of(policy.key(), policy.epochKey()),
+                        String.valueOf(now),
+                        String.valueOf(policy.halfLife().toMillis()),
+                        String.valueOf(properties.getRebaseAfterHalfLives()),
+                        String.valueOf(policy.pruneBelow())
+                );
+                if (rebased != null && rebased == 1L) {
+                    log.info("[trending] rebased. policy={}", name);
+                }
+            } catch (Exception e) {
+                log.warn("[trending] maintain failed. policy={}", name, e);
+            }
+        }
+    }
+
+    private double currentFactor(TrendingPolicy policy) {
+        String epoch = redisTemplate.opsForValue().get(policy.epochKey());
+        if (epoch == null) return 1D;
+
+        long elapsed = System.currentTimeMillis() - Long.parseLong(epoch);
+        return Math.pow(2D, (double) elapsed / policy.halfLife().toMillis());
+    }
+}
@@ -0,0 +1,52 @@
+package com.dearwith.dearwith_backend.common.utill;
+
+import com.dearwith.dearwith_backend.common.exception.BusinessException;
+import com.dearwith.dearwith_backend.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 커서 인코딩/디코딩 (정렬 키 값들을 '|' 로 이어 Base64URL 로 감쌈)
+ * - 예) (startDate, id) → "2025-11-19|123" → "MjAyNS0xMS0xOXwxMjM"
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(DELIMITER);
+            sb.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param expectedParts 정렬 키 개수, 다르면 잘못된 커서로 처리
+     * @param parser        정렬 키 문자열 → 커서 값 (파싱 실패 시 잘못된 커서로 처리)
+     */
+    public static <T> T decode(String cursor, int expectedParts, Function<String[], T> parser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("unexpected cursor parts: " + parts.length);
+            }
+            return parser.apply(parts);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw BusinessException.withMessageAndDetail(
+                    ErrorCode.INVALID_INPUT,
+                    "잘못된 커서입니다.",
+                    "INVALID_CURSOR:" + cursor
+            );
+        }
+    }
+}
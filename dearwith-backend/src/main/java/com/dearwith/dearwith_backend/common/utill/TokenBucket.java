@@ -0,0 +1,49 @@
+package com.dearwith.dearwith_backend.common.utill;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 처리율 제한기 (스레드 안전, 블로킹)
+ * - 초당 ratePerSecond 개씩 채워지고 최대 capacity 개까지 쌓임
+ * - acquire(n): 토큰이 n 개 모일 때까지 대기 후 차감
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double ratePerSecond, double capacity) {
+        if (ratePerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("rate and capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        // 한 번에 capacity 보다 많이 요청하면 영원히 못 모이므로 capacity 로 제한
+        double need = Math.min(permits, capacity);
+        long waitNanos;
+        while ((waitNanos = reserve(need)) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 차감에 성공하면 0, 부족하면 모일 때까지 남은 시간(ns)
+    private synchronized long reserve(double need) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= need) {
+            tokens -= need;
+            return 0L;
+        }
+        return Math.max(1L, (long) Math.ceil((need - tokens) / refillPerNano));
+    }
+}
@@ -10,7 +10,7 @@ import java.time.LocalTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class EventInfoDto {
     private Long id;
     private String title;
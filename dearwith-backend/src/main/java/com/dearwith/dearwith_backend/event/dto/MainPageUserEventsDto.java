@@ -0,0 +1,15 @@
+package com.dearwith.dearwith_backend.event.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메인페이지 로그인 유저 레이어 조회 결과
+ * - personalizedIds : 북마크한 아티스트/그룹 기반 개인화 추천 (추천 순서, 최대 요청 개수)
+ * - bookmarkedIds   : 스냅샷 이벤트 + 개인화 후보 중 유저가 북마크한 이벤트
+ */
+public record MainPageUserEventsDto(
+        List<Long> personalizedIds,
+        Set<Long> bookmarkedIds
+) {
+}
@@ -18,6 +18,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        // 내가 등록한 이벤트 커서 조회 (user_id, created_at, id)
+        @Index(name = "idx_event_user_created", columnList = "user_id, created_at, id")
+})
 @Where(clause = "deleted_at IS NULL")
 @Setter
 @BatchSize(size = 50)
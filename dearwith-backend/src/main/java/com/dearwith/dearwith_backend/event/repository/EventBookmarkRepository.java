@@ -53,6 +53,18 @@ public interface EventBookmarkRepository extends JpaRepository<EventBookmark, Lo
     """)
     List<UUID> findUserIdsByEventId(@Param("eventId") Long eventId);
 
+    // 알림 발송용: 이벤트 북마크 유저 id keyset 페이징 (엔티티 로딩 없음)
+    @Query("""
+        select eb.user.id
+        from EventBookmark eb
+        where eb.event.id = :eventId
+          and eb.user.id > :lastUserId
+        order by eb.user.id
+    """)
+    List<UUID> findUserIdsByEventIdAfter(@Param("eventId") Long eventId,
+                                         @Param("lastUserId") UUID lastUserId,
+                                         Pageable pageable);
+
     @Modifying
     @Query("delete from EventBookmark b where b.event.id = :eventId")
     void deleteByEventId(@Param("eventId") Long eventId);
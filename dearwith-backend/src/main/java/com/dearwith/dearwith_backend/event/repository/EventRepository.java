@@ -5,11 +5,13 @@ import com.dearwith.dearwith_backend.event.enums.EventStatus;
 import com.dearwith.dearwith_backend.event.enums.EventType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -49,6 +51,45 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 """)
     Page<Event> searchByTitle(@Param("query") String query, Pageable pageable);
 
+    /*──────────────────────────────────────────────
+     | 검색 색인용 (엔티티 대신 필요한 컬럼만)
+     *──────────────────────────────────────────────*/
+    interface EventSearchRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getPlaceName();
+    }
+
+    @Query("""
+        select e.id as id, e.title as title, e.description as description, e.placeInfo.name as placeName
+          from Event e
+         where e.id > :lastId
+         order by e.id asc
+    """)
+    List<EventSearchRow> findSearchRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+        select e.id as id, e.title as title, e.description as description, e.placeInfo.name as placeName
+          from Event e
+         where e.id in :ids
+    """)
+    List<EventSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface EventSuggestRow {
+        Long getId();
+        String getTitle();
+        Long getBookmarkCount();
+    }
+
+    @Query("""
+        select e.id as id, e.title as title, e.bookmarkCount as bookmarkCount
+          from Event e
+         where e.id > :lastId
+         order by e.id asc
+    """)
+    List<EventSuggestRow> findSuggestRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update Event e
@@ -98,6 +139,74 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     """)
     Page<Event> findPageByGroup(@Param("groupId") Long groupId, Pageable pageable);
 
+    /*──────────────────────────────────────────────
+     | 커서(keyset) 조회: OFFSET/COUNT 없이 정렬 키 이후만 조회
+     | - 아티스트/그룹 매핑은 (event, artist) 유니크라 distinct 불필요
+     *──────────────────────────────────────────────*/
+    @Query("""
+        select e
+          from Event e
+          join e.artists eam
+         where eam.artist.id = :artistId
+           and e.id < :lastId
+         order by e.id desc
+    """)
+    Slice<Event> findSliceByArtistIdLatest(@Param("artistId") Long artistId,
+                                           @Param("lastId") Long lastId,
+                                           Pageable pageable);
+
+    @Query("""
+        select e
+          from Event e
+          join e.artists eam
+         where eam.artist.id = :artistId
+           and e.startDate is not null
+           and (e.startDate > :startDate or (e.startDate = :startDate and e.id > :lastId))
+         order by e.startDate asc, e.id asc
+    """)
+    Slice<Event> findSliceByArtistIdUpcoming(@Param("artistId") Long artistId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
+
+    @Query("""
+        select e
+          from Event e
+          join e.artistGroups eag
+         where eag.artistGroup.id = :groupId
+           and e.id < :lastId
+         order by e.id desc
+    """)
+    Slice<Event> findSliceByGroupIdLatest(@Param("groupId") Long groupId,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
+
+    @Query("""
+        select e
+          from Event e
+          join e.artistGroups eag
+         where eag.artistGroup.id = :groupId
+           and e.startDate is not null
+           and (e.startDate > :startDate or (e.startDate = :startDate and e.id > :lastId))
+         order by e.startDate asc, e.id asc
+    """)
+    Slice<Event> findSliceByGroupIdUpcoming(@Param("groupId") Long groupId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("lastId") Long lastId,
+                                            Pageable pageable);
+
+    @Query("""
+        select e
+          from Event e
+         where e.user.id = :userId
+           and (e.createdAt < :createdAt or (e.createdAt = :createdAt and e.id < :lastId))
+         order by e.createdAt desc, e.id desc
+    """)
+    Slice<Event> findSliceByUserId(@Param("userId") UUID userId,
+                                   @Param("createdAt") Instant createdAt,
+                                   @Param("lastId") Long lastId,
+                                   Pageable pageable);
+
     @Query("select e.bookmarkCount from Event e where e.id = :eventId")
     long getBookmarkCount(@Param("eventId") Long eventId);
     List<Event> findByIdIn(Collection<Long> ids);
@@ -127,6 +236,65 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             Pageable pageable
     );
 
+    /*──────────────────────────────────────────────
+     | 메인페이지 로그인 유저 레이어 (개인화 후보 + 북마크 여부)
+     *──────────────────────────────────────────────*/
+    interface MainPageUserEventRow {
+        Long getId();
+        Boolean getPersonalized();
+        Boolean getBookmarked();
+        LocalDate getStartDate();
+        Long getBookmarkCount();
+    }
+
+    /**
+     * 스냅샷 이벤트(:snapshotIds)의 북마크 여부와 개인화 추천 후보를 한 번에 조회.
+     * - 스냅샷 이벤트를 먼저, 그 뒤에 스냅샷 밖 개인화 후보를 추천 순서대로 정렬
+     * - pageable 크기를 (스냅샷 수 + 추천 개수)로 주면 개인화 상위 N개가 항상 결과 안에 포함됨
+     */
+    @Query("""
+        select e.id as id,
+               case when e.status in (
+                        com.dearwith.dearwith_backend.event.enums.EventStatus.SCHEDULED,
+                        com.dearwith.dearwith_backend.event.enums.EventStatus.IN_PROGRESS
+                    )
+                    and (
+                        exists (select 1 from EventArtistMapping eam join ArtistBookmark ab on ab.artist = eam.artist
+                                 where eam.event = e and ab.user.id = :userId)
+                        or exists (select 1 from EventArtistGroupMapping egm join ArtistGroupBookmark gb on gb.artistGroup = egm.artistGroup
+                                    where egm.event = e and gb.user.id = :userId)
+                    )
+                    then true else false end as personalized,
+               case when exists (select 1 from EventBookmark eb where eb.event = e and eb.user.id = :userId)
+                    then true else false end as bookmarked,
+               e.startDate as startDate,
+               e.bookmarkCount as bookmarkCount
+          from Event e
+         where e.id in :snapshotIds
+            or (
+                e.status in (
+                    com.dearwith.dearwith_backend.event.enums.EventStatus.SCHEDULED,
+                    com.dearwith.dearwith_backend.event.enums.EventStatus.IN_PROGRESS
+                )
+                and (
+                    exists (select 1 from EventArtistMapping eam join ArtistBookmark ab on ab.artist = eam.artist
+                             where eam.event = e and ab.user.id = :userId)
+                    or exists (select 1 from EventArtistGroupMapping egm join ArtistGroupBookmark gb on gb.artistGroup = egm.artistGroup
+                                where egm.event = e and gb.user.id = :userId)
+                )
+            )
+         order by
+            case when e.id in :snapshotIds then 0 else 1 end,
+            e.startDate asc nulls last,
+            e.bookmarkCount desc,
+            e.id desc
+    """)
+    List<MainPageUserEventRow> findMainPageUserRows(
+            @Param("userId") UUID userId,
+            @Param("snapshotIds") Collection<Long> snapshotIds,
+            Pageable pageable
+    );
+
     @Query("""
     select e
     from Event e
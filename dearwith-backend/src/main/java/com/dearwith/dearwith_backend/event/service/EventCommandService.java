@@ -20,12 +20,16 @@ import com.dearwith.dearwith_backend.external.x.XVerifyPayload;
 import com.dearwith.dearwith_backend.external.x.XVerifyTicketService;
 import com.dearwith.dearwith_backend.image.dto.ImageAttachmentRequestDto;
 import com.dearwith.dearwith_backend.image.dto.ImageAttachmentUpdateRequestDto;
+import com.dearwith.dearwith_backend.notification.event.EventNotificationRequestedEvent;
+import com.dearwith.dearwith_backend.page.main.MainPageChangedEvent;
+import com.dearwith.dearwith_backend.search.index.EventIndexChangedEvent;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,6 +56,7 @@ public class EventCommandService {
     private final EventBookmarkRepository eventBookmarkRepository;
     private final EventNoticeRepository eventNoticeRepository;
     private final UserReader userReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private final EntityManager em;
@@ -258,6 +263,10 @@ public class EventCommandService {
         // 5. 저장
         Event saved = eventRepository.save(event);
 
+        eventPublisher.publishEvent(new MainPageChangedEvent("EVENT_CREATED"));
+        eventPublisher.publishEvent(new EventIndexChangedEvent(saved.getId()));
+        eventPublisher.publishEvent(EventNotificationRequestedEvent.created(saved.getId(), userId));
+
         return CreatedResponseDto.builder()
                 .id(saved.getId())
                 .build();
@@ -476,6 +485,10 @@ public class EventCommandService {
 
         // 7) 저장
         eventRepository.save(event);
+
+        eventPublisher.publishEvent(new MainPageChangedEvent("EVENT_UPDATED"));
+        eventPublisher.publishEvent(new EventIndexChangedEvent(eventId));
+        eventPublisher.publishEvent(EventNotificationRequestedEvent.changed(eventId, userId));
     }
 
 
@@ -516,6 +529,9 @@ public class EventCommandService {
         // 7) 소프트 삭제
         event.softDelete();
         eventRepository.save(event);
+
+        eventPublisher.publishEvent(new MainPageChangedEvent("EVENT_DELETED"));
+        eventPublisher.publishEvent(new EventIndexChangedEvent(eventId));
     }
 
 
@@ -5,13 +5,17 @@ import com.dearwith.dearwith_backend.artist.repository.ArtistGroupBookmarkReposi
 import com.dearwith.dearwith_backend.artist.repository.ArtistGroupRepository;
 import com.dearwith.dearwith_backend.artist.repository.ArtistRepository;
 import com.dearwith.dearwith_backend.auth.service.AuthService;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
 import com.dearwith.dearwith_backend.common.dto.ImageGroupDto;
 import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
+import com.dearwith.dearwith_backend.common.utill.CursorCodec;
 import com.dearwith.dearwith_backend.event.assembler.EventInfoAssembler;
 import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
 import com.dearwith.dearwith_backend.event.dto.EventNoticeInfoDto;
 import com.dearwith.dearwith_backend.event.dto.EventResponseDto;
+import com.dearwith.dearwith_backend.event.dto.MainPageUserEventsDto;
+import com.dearwith.dearwith_backend.event.enums.EventSort;
 import com.dearwith.dearwith_backend.event.entity.*;
 import com.dearwith.dearwith_backend.event.mapper.EventMapper;
 import com.dearwith.dearwith_backend.event.repository.*;
@@ -19,12 +23,15 @@ import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
 import com.dearwith.dearwith_backend.image.asset.ImageVariantAssembler;
 import com.dearwith.dearwith_backend.image.asset.ImageVariantProfile;
 import com.dearwith.dearwith_backend.image.entity.Image;
+import com.dearwith.dearwith_backend.search.index.EventSearchIndexService;
+import com.dearwith.dearwith_backend.search.index.SearchHits;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,6 +40,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventQueryService {
 
+    // 커서 조회: 최대 페이지 크기 / 첫 페이지용 정렬 키 경계값
+    private static final int MAX_CURSOR_SIZE = 50;
+    private static final LocalDate MIN_START_DATE = LocalDate.of(1000, 1, 1);
+    private static final Instant MAX_CREATED_AT = Instant.parse("9999-12-31T00:00:00Z");
+
     private final EventRepository eventRepository;
     private final EventBookmarkRepository eventBookmarkRepository;
     private final EventArtistMappingRepository eventArtistMappingRepository;
@@ -51,6 +63,7 @@ public class EventQueryService {
     private final AssetUrlService assetUrlService;
     private final UserReader userReader;
     private final AuthService authService;
+    private final EventSearchIndexService eventSearchIndexService;
 
     /*──────────────────────────────────────────────
      | 메인페이지 추천 이벤트
@@ -58,54 +71,106 @@ public class EventQueryService {
     @Transactional(readOnly = true)
     public List<EventInfoDto> getRecommendedEvents(UUID userId) {
 
-        LocalDate today = LocalDate.now();
-
         // 비로그인 fallback
         if (userId == null) {
-            List<Event> fallback = eventRepository.findGlobalRecommendedFallback(
-                    today,
-                    PageRequest.of(0, 10)
-            );
+            return getGlobalRecommendedEvents(null);
+        }
 
-            // ID들만 뽑아서 연관관계까지 한 번에 로딩
-            List<Long> ids = fallback.stream()
-                    .map(Event::getId)
-                    .toList();
+        UUID viewerId = normalizeUserId(userId);
 
-            if (ids.isEmpty()) {
-                return List.of();
+        // 북마크 없으면 global fallback
+        return findPersonalizedRecommendedEvents(viewerId)
+                .orElseGet(() -> getGlobalRecommendedEvents(viewerId));
+    }
+
+    /**
+     * 메인페이지 로그인 유저 레이어: 개인화 추천 후보 + 북마크 여부를 한 번의 쿼리로 조회
+     * - snapshotEventIds: 스냅샷(추천/핫/신규)에 이미 있는 이벤트 → 북마크 여부만 필요
+     * - 스냅샷 밖 개인화 후보는 상위 limit 개까지만 함께 가져온 뒤 추천 순서로 병합
+     */
+    @Transactional(readOnly = true)
+    public MainPageUserEventsDto getMainPageUserEvents(UUID userId, Collection<Long> snapshotEventIds, int limit) {
+        UUID viewerId = normalizeUserId(userId);
+
+        List<Long> snapshotIds = snapshotEventIds.isEmpty()
+                ? List.of(-1L)
+                : List.copyOf(snapshotEventIds);
+
+        List<EventRepository.MainPageUserEventRow> rows = eventRepository.findMainPageUserRows(
+                viewerId,
+                snapshotIds,
+                PageRequest.of(0, snapshotIds.size() + limit)
+        );
+
+        Set<Long> bookmarked = new HashSet<>();
+        List<EventRepository.MainPageUserEventRow> candidates = new ArrayList<>();
+        for (var row : rows) {
+            if (Boolean.TRUE.equals(row.getBookmarked())) {
+                bookmarked.add(row.getId());
+            }
+            if (Boolean.TRUE.equals(row.getPersonalized())) {
+                candidates.add(row);
             }
+        }
+
+        // 스냅샷 안/밖 후보가 따로 정렬돼 있으므로 findRecommendedForUser 와 같은 순서로 다시 정렬
+        List<Long> personalizedIds = candidates.stream()
+                .sorted(Comparator
+                        .comparing(EventRepository.MainPageUserEventRow::getStartDate,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(EventRepository.MainPageUserEventRow::getBookmarkCount,
+                                Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(EventRepository.MainPageUserEventRow::getId, Comparator.reverseOrder()))
+                .limit(limit)
+                .map(EventRepository.MainPageUserEventRow::getId)
+                .toList();
 
-            List<Event> loaded = eventRepository.findWithMainPageRelationsByIdIn(ids);
-            List<Event> ordered = sortByIdOrder(loaded, ids);
+        return new MainPageUserEventsDto(personalizedIds, bookmarked);
+    }
 
-            return buildEventInfoList(ordered, null);
+    /**
+     * ID 순서대로 EventInfo 조립 (북마크 여부는 false, 호출 측에서 덧씌움)
+     * - 메인페이지 스냅샷에 없는 개인화 추천 이벤트를 채울 때 사용
+     */
+    @Transactional(readOnly = true)
+    public List<EventInfoDto> getEventInfosByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
         }
+        List<Event> loaded = eventRepository.findWithMainPageRelationsByIdIn(ids);
+        return buildEventInfoList(sortByIdOrder(loaded, ids), null);
+    }
 
-        UUID viewerId = normalizeUserId(userId);
+    private List<EventInfoDto> getGlobalRecommendedEvents(UUID viewerId) {
+        List<Event> fallback = eventRepository.findGlobalRecommendedFallback(
+                LocalDate.now(),
+                PageRequest.of(0, 10)
+        );
 
-        List<Long> artistIds = artistBookmarkRepository.findArtistIdsByUserId(viewerId);
-        List<Long> groupIds  = artistGroupBookmarkRepository.findGroupIdsByUserId(viewerId);
+        // ID들만 뽑아서 연관관계까지 한 번에 로딩
+        List<Long> ids = fallback.stream()
+                .map(Event::getId)
+                .toList();
 
-        // 북마크 없으면 global fallback
-        if (artistIds.isEmpty() && groupIds.isEmpty()) {
-            List<Event> fallback = eventRepository.findGlobalRecommendedFallback(
-                    today,
-                    PageRequest.of(0, 10)
-            );
+        if (ids.isEmpty()) {
+            return List.of();
+        }
 
-            List<Long> ids = fallback.stream()
-                    .map(Event::getId)
-                    .toList();
+        List<Event> loaded = eventRepository.findWithMainPageRelationsByIdIn(ids);
+        List<Event> ordered = sortByIdOrder(loaded, ids);
 
-            if (ids.isEmpty()) {
-                return List.of();
-            }
+        return buildEventInfoList(ordered, viewerId);
+    }
+
+    private Optional<List<EventInfoDto>> findPersonalizedRecommendedEvents(UUID viewerId) {
+
+        LocalDate today = LocalDate.now();
 
-            List<Event> loaded = eventRepository.findWithMainPageRelationsByIdIn(ids);
-            List<Event> ordered = sortByIdOrder(loaded, ids);
+        List<Long> artistIds = artistBookmarkRepository.findArtistIdsByUserId(viewerId);
+        List<Long> groupIds  = artistGroupBookmarkRepository.findGroupIdsByUserId(viewerId);
 
-            return buildEventInfoList(ordered, viewerId);
+        if (artistIds.isEmpty() && groupIds.isEmpty()) {
+            return Optional.empty();
         }
 
         if (artistIds.isEmpty()) artistIds = List.of(-1L);
@@ -141,7 +206,7 @@ public class EventQueryService {
         }
 
         if (personalized.isEmpty()) {
-            return List.of();
+            return Optional.of(List.of());
         }
 
         // 3) 최종 ID 리스트 → 연관관계 한 번에 로딩
@@ -152,7 +217,7 @@ public class EventQueryService {
         List<Event> loaded = eventRepository.findWithMainPageRelationsByIdIn(ids);
         List<Event> ordered = sortByIdOrder(loaded, ids);
 
-        return buildEventInfoList(ordered, viewerId);
+        return Optional.of(buildEventInfoList(ordered, viewerId));
     }
 
     /*──────────────────────────────────────────────
@@ -161,11 +226,7 @@ public class EventQueryService {
     @Transactional(readOnly = true)
     public List<EventInfoDto> getHotEvents(UUID userId) {
         UUID viewerId = normalizeUserId(userId);
-        List<EventInfoDto> hot = hotEventService.getHotEvents(10);
-
-        List<Long> ids = hot.stream()
-                .map(EventInfoDto::getId)
-                .toList();
+        List<Long> ids = hotEventService.getHotEventIds(10);
 
         if (ids.isEmpty()) {
             return List.of();
@@ -261,6 +322,25 @@ public class EventQueryService {
         }
         UUID viewerId = normalizeUserId(userId);
 
+        // 1) 검색 색인 (관련도순), 색인 준비 전에는 DB 제목 검색으로 대체
+        Optional<SearchHits> hits = eventSearchIndexService.search(
+                query, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.isPresent()) {
+            List<Long> ids = hits.get().ids();
+            List<Event> ordered = ids.isEmpty()
+                    ? List.of()
+                    : sortByIdOrder(eventRepository.findWithMainPageRelationsByIdIn(ids), ids);
+
+            Set<Long> bookmarked = bookmarkedIds(viewerId, ids);
+            List<EventInfoDto> content = ordered.stream()
+                    .map(event -> eventInfoAssembler.assemble(
+                            event,
+                            viewerId == null ? null : bookmarked.contains(event.getId())
+                    ))
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.get().total());
+        }
+
         Page<Event> page = eventRepository.searchByTitle(query, pageable);
 
         Set<Long> bookmarked = bookmarkedIds(viewerId, page);
@@ -335,6 +415,124 @@ public class EventQueryService {
         return buildEventInfoPageWithBatch(eventPage, creatorId);
     }
 
+    /*──────────────────────────────────────────────
+     | 커서 기반 목록 (무한 스크롤)
+     | - OFFSET/COUNT 없이 (정렬 키, id) 이후만 조회 → 페이지 깊이와 무관한 비용
+     | - LATEST: id 내림차순, UPCOMING: (startDate, id) 오름차순
+     *──────────────────────────────────────────────*/
+    @Transactional(readOnly = true)
+    public CursorSliceDto<EventInfoDto> getEventsByArtistCursor(
+            Long artistId, UUID userId, String cursor, int size, EventSort sort
+    ) {
+        if (!artistRepository.existsById(artistId)) {
+            throw BusinessException.withMessage(
+                    ErrorCode.NOT_FOUND,
+                    "아티스트를 찾을 수 없습니다."
+            );
+        }
+        UUID viewerId = normalizeUserId(userId);
+        Pageable pageable = PageRequest.of(0, cursorSize(size));
+
+        Slice<Event> slice = switch (requireCursorSort(sort)) {
+            case UPCOMING -> {
+                StartDateCursor c = decodeStartDateCursor(cursor);
+                yield eventRepository.findSliceByArtistIdUpcoming(artistId, c.startDate(), c.id(), pageable);
+            }
+            default -> eventRepository.findSliceByArtistIdLatest(artistId, decodeIdCursor(cursor), pageable);
+        };
+
+        return toCursorSlice(slice, viewerId, sort);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSliceDto<EventInfoDto> getEventsByGroupCursor(
+            Long groupId, UUID userId, String cursor, int size, EventSort sort
+    ) {
+        if (!artistGroupRepository.existsById(groupId)) {
+            throw BusinessException.withMessage(
+                    ErrorCode.NOT_FOUND,
+                    "아티스트 그룹을 찾을 수 없습니다."
+            );
+        }
+        UUID viewerId = normalizeUserId(userId);
+        Pageable pageable = PageRequest.of(0, cursorSize(size));
+
+        Slice<Event> slice = switch (requireCursorSort(sort)) {
+            case UPCOMING -> {
+                StartDateCursor c = decodeStartDateCursor(cursor);
+                yield eventRepository.findSliceByGroupIdUpcoming(groupId, c.startDate(), c.id(), pageable);
+            }
+            default -> eventRepository.findSliceByGroupIdLatest(groupId, decodeIdCursor(cursor), pageable);
+        };
+
+        return toCursorSlice(slice, viewerId, sort);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSliceDto<EventInfoDto> getMyEventsCursor(UUID userId, String cursor, int size) {
+        UUID creatorId = normalizeUserId(userId);
+
+        CreatedAtCursor c = (cursor == null || cursor.isBlank())
+                ? new CreatedAtCursor(MAX_CREATED_AT, Long.MAX_VALUE)
+                : CursorCodec.decode(cursor, 2, p -> new CreatedAtCursor(Instant.parse(p[0]), Long.parseLong(p[1])));
+
+        Slice<Event> slice = eventRepository.findSliceByUserId(
+                creatorId, c.createdAt(), c.id(), PageRequest.of(0, cursorSize(size)));
+
+        List<Event> events = slice.getContent();
+        String next = null;
+        if (slice.hasNext()) {
+            Event last = events.get(events.size() - 1);
+            next = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorSliceDto<>(buildEventInfoListWithBatch(events, creatorId), next, slice.hasNext());
+    }
+
+    private CursorSliceDto<EventInfoDto> toCursorSlice(Slice<Event> slice, UUID viewerId, EventSort sort) {
+        List<Event> events = slice.getContent();
+        String next = null;
+        if (slice.hasNext()) {
+            Event last = events.get(events.size() - 1);
+            next = sort == EventSort.UPCOMING
+                    ? CursorCodec.encode(last.getStartDate(), last.getId())
+                    : CursorCodec.encode(last.getId());
+        }
+        return new CursorSliceDto<>(buildEventInfoListWithBatch(events, viewerId), next, slice.hasNext());
+    }
+
+    // 인기순(bookmarkCount)은 값이 계속 바뀌어 커서가 안정적이지 않으므로 페이지 API 로만 제공
+    private EventSort requireCursorSort(EventSort sort) {
+        if (sort == null) return EventSort.LATEST;
+        if (sort == EventSort.POPULAR) {
+            throw BusinessException.withMessageAndDetail(
+                    ErrorCode.INVALID_INPUT,
+                    "커서 조회는 최신순/다가오는 순 정렬만 지원합니다.",
+                    "CURSOR_SORT_NOT_SUPPORTED:" + sort
+            );
+        }
+        return sort;
+    }
+
+    private int cursorSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+    }
+
+    private Long decodeIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return Long.MAX_VALUE;
+        return CursorCodec.decode(cursor, 1, p -> Long.parseLong(p[0]));
+    }
+
+    private StartDateCursor decodeStartDateCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return new StartDateCursor(MIN_START_DATE, 0L);
+        return CursorCodec.decode(cursor, 2, p -> new StartDateCursor(LocalDate.parse(p[0]), Long.parseLong(p[1])));
+    }
+
+    private record StartDateCursor(LocalDate startDate, Long id) {
+    }
+
+    private record CreatedAtCursor(Instant createdAt, Long id) {
+    }
+
     /*──────────────────────────────────────────────
      | 공통 EventInfo 빌더 (List)
      *──────────────────────────────────────────────*/
@@ -372,7 +570,20 @@ public class EventQueryService {
             return new PageImpl<>(List.of(), page.getPageable(), 0);
         }
 
-        List<Long> eventIds = page.getContent().stream().map(Event::getId).toList();
+        List<EventInfoDto> dtoList = buildEventInfoListWithBatch(page.getContent(), userId);
+
+        return new PageImpl<>(dtoList, page.getPageable(), page.getTotalElements());
+    }
+
+    /*──────────────────────────────────────────────
+     | 공통 EventInfo 빌더 (List, 아티스트/그룹 이름 + 북마크 일괄 조회)
+     *──────────────────────────────────────────────*/
+    private List<EventInfoDto> buildEventInfoListWithBatch(List<Event> events, UUID userId) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> eventIds = events.stream().map(Event::getId).toList();
 
         List<EventArtistMappingRepository.EventArtistNamesRow> artistNames =
                 eventArtistMappingRepository.findArtistNamesByEventIds(eventIds);
@@ -407,7 +618,7 @@ public class EventQueryService {
 
         Set<Long> bookmarked = bookmarkedIds(userId, eventIds);
 
-        List<EventInfoDto> dtoList = page.getContent().stream()
+        return events.stream()
                 .map(e -> eventInfoAssembler.assembleWithBatch(
                         e,
                         userId,
@@ -418,8 +629,6 @@ public class EventQueryService {
                         bookmarked
                 ))
                 .toList();
-
-        return new PageImpl<>(dtoList, page.getPageable(), page.getTotalElements());
     }
 
     private Set<Long> bookmarkedIds(UUID userId, Collection<Long> eventIds) {
@@ -1,114 +1,177 @@
 package com.dearwith.dearwith_backend.event.service;
 
-import com.dearwith.dearwith_backend.event.assembler.EventInfoAssembler;
-import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
+import com.dearwith.dearwith_backend.common.trending.TrendingPolicy;
+import com.dearwith.dearwith_backend.common.trending.TrendingScoreEngine;
 import com.dearwith.dearwith_backend.event.enums.EventStatus;
 import com.dearwith.dearwith_backend.event.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import com.dearwith.dearwith_backend.event.entity.Event;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HotEventService {
 
-    private static final String HOT_EVENT_KEY_PREFIX = "hot:event";
+    private static final String TRENDING_POLICY = "event";
     private static final String VIEWED_KEY_PREFIX      = "hot:viewed";
-    private static final int DEFAULT_AGGREGATE_DAYS = 3;
-    private static final Duration KEY_TTL = Duration.ofDays(7);
+    private static final int CANDIDATE_MULTIPLIER = 3;
+
+    private static final Duration VIEWED_KEY_TTL = Duration.ofDays(2);
+    private static final int VIEW_BUFFER_CAPACITY = 100_000;
+    private static final int VIEW_FLUSH_BATCH_SIZE = 1_000;
 
     private final StringRedisTemplate redisTemplate;
     private final EventRepository eventRepository;
-    private final EventInfoAssembler eventInfoAssembler;
+    private final TrendingScoreEngine trendingScoreEngine;
+    private final Cache<Integer, List<Long>> hotEventIdsCache;
+    private final Cache<String, Boolean> hotEventViewedCache;
+    private final MeterRegistry meterRegistry;
+
+    // 조회 신호 버퍼 (lock-free 큐 + 크기 카운터)
+    private final Queue<ViewSignal> viewBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger viewBufferSize = new AtomicInteger();
+    private Counter viewDroppedCounter;
+    private Timer viewFlushTimer;
+    private TrendingPolicy trendingPolicy;
+
+    @PostConstruct
+    void init() {
+        trendingPolicy = trendingScoreEngine.policy(TRENDING_POLICY);
+
+        Gauge.builder("hot.event.view.buffer.depth", viewBufferSize, AtomicInteger::get)
+                .register(meterRegistry);
+        viewDroppedCounter = meterRegistry.counter("hot.event.view.dropped");
+        viewFlushTimer = meterRegistry.timer("hot.event.view.flush");
+    }
 
     /**
      * 로그인 유저가 이벤트 상세를 조회했을 때 호출.
      * - 같은 유저가 같은 날, 같은 이벤트를 여러 번 조회해도 1번만 점수 반영.
      * - 비로그인 유저(userId == null)는 무시.
+     * - 요청 스레드에서는 Redis 를 호출하지 않고 버퍼에만 적재 → flushViewBuffer 가 배치로 반영
      */
-    @Transactional
     public void onEventViewed(Long eventId, UUID userId) {
         if (eventId == null || userId == null) return;
 
         LocalDate today = LocalDate.now();
-        // 예: hot:viewed:123:2025-11-19
-        String viewedKey = VIEWED_KEY_PREFIX + ":" + eventId + ":" + today;
 
-        // 해당 이벤트에 대해 오늘 이 유저가 처음 조회라면 Set에 추가됨 (added > 0)
-        Long added = redisTemplate.opsForSet()
-                .add(viewedKey, userId.toString());
+        // 로컬 중복 필터: 이 노드에서 이미 본 (이벤트, 유저, 일자) 조합은 버퍼에 넣지 않음
+        String dedupKey = eventId + ":" + userId + ":" + today;
+        if (hotEventViewedCache.asMap().putIfAbsent(dedupKey, Boolean.TRUE) != null) {
+            return;
+        }
+
+        // 버퍼가 가득 차면 버림 (점수 반영은 best-effort)
+        if (viewBufferSize.incrementAndGet() > VIEW_BUFFER_CAPACITY) {
+            viewBufferSize.decrementAndGet();
+            hotEventViewedCache.invalidate(dedupKey);
+            viewDroppedCounter.increment();
+            return;
+        }
+
+        viewBuffer.offer(new ViewSignal(eventId, userId.toString(), today));
+    }
 
-        // 조회 기록은 짧게 유지 (예: 2일)
-        redisTemplate.expire(viewedKey, Duration.ofDays(2));
+    /**
+     * 조회 버퍼를 배치 단위로 Redis 에 반영
+     * - 파이프라인: 일자별 조회 기록 SADD + EXPIRE
+     * - 처음 조회한 건만 이벤트별로 합산해 트렌딩 엔진에 한 번에 적립
+     */
+    @Scheduled(fixedDelayString = "${app.hot.event.view-flush-interval-ms:1000}")
+    public void flushViewBuffer() {
+        while (true) {
+            List<ViewSignal> batch = drainViewBuffer();
+            if (batch.isEmpty()) return;
+
+            long start = System.nanoTime();
+            try {
+                flushViews(batch);
+            } catch (Exception e) {
+                log.warn("[hot-event] view flush failed. dropped={}", batch.size(), e);
+            } finally {
+                viewFlushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
 
-        if (added != null && added > 0) {
-            // 오늘 이 유저의 첫 조회인 경우에만 점수 +1
-            adjustEventScore(eventId, Action.VIEW.delta());
+            if (batch.size() < VIEW_FLUSH_BATCH_SIZE) return;
         }
     }
 
+    @PreDestroy
+    void flushOnShutdown() {
+        flushViewBuffer();
+    }
+
     /**
      * 북마크/리뷰/좋아요 등, "플러스 액션" 발생 시 호출.
      * - 예) 북마크 추가, 리뷰 작성 등
      */
     @Transactional
     public void increaseEventScore(Long eventId, Action action) {
-        if (eventId == null || action == null || action.delta() == 0L) return;
-        adjustEventScore(eventId, action.delta());
+        if (eventId == null || action == null) return;
+        adjustEventScore(eventId, weightOf(action));
     }
 
     /**
      * 북마크/리뷰/좋아요 등, "마이너스 액션" 발생 시 호출.
      * - 예) 북마크 취소, 리뷰 삭제 등
+     * - 현재 시각 기준 가중치를 빼므로 적립 당시 기여분보다 클 수 있음 → 엔진에서 0 미만은 0 으로 고정
      */
     @Transactional
     public void decreaseEventScore(Long eventId, Action action) {
-        if (eventId == null || action == null || action.delta() == 0L) return;
-        adjustEventScore(eventId, -action.delta());
+        if (eventId == null || action == null) return;
+        adjustEventScore(eventId, -weightOf(action));
     }
 
     /**
-     * 메인 페이지 등에서 상위 N개의 핫 이벤트 조회
+     * 메인 페이지 등에서 상위 N개의 핫 이벤트 ID 조회 (순위 순서 유지)
+     * - 정렬/ENDED 제외/북마크 fallback 까지 끝난 ID 목록을 짧은 TTL 로 로컬 캐시
+     * - 엔티티 로딩은 호출 측(ID 기반 2단계 조회)에 위임
      */
-    @Transactional(readOnly = true)
-    public List<EventInfoDto> getHotEvents(int limit) {
-        if (limit <= 0) limit = 10;
-
-        // 1) Redis에서 최근 N일 점수 합산
-        Map<Long, Long> scoreMap = aggregateLastNDaysScores(
-                HOT_EVENT_KEY_PREFIX,
-                DEFAULT_AGGREGATE_DAYS
-        );
-
-        List<Event> result = new ArrayList<>();
-
-        // 2) 핫 스코어가 있는 경우: 점수순으로 정렬 후 상위 limit 개 뽑기
-        if (!scoreMap.isEmpty()) {
-            List<Long> hotEventIds = scoreMap.entrySet().stream()
-                    .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
-                    .limit(limit)
-                    .map(Map.Entry::getKey)
-                    .toList();
-
-            // DB에서 이벤트 조회
-            List<Event> events = eventRepository.findAllById(hotEventIds);
-            Map<Long, Event> eventMap = events.stream()
+    public List<Long> getHotEventIds(int limit) {
+        int size = limit <= 0 ? 10 : limit;
+        return hotEventIdsCache.get(size, this::resolveHotEventIds);
+    }
+
+    private List<Long> resolveHotEventIds(int limit) {
+
+        // 1) 트렌딩 ZSET 에서 상위 후보만 조회 (ENDED/삭제 이벤트 제외를 고려해 여유 있게)
+        List<Long> candidateIds = readTopCandidates(limit * CANDIDATE_MULTIPLIER);
+
+        List<Long> result = new ArrayList<>();
+
+        // 2) 핫 스코어가 있는 경우: 점수순 유지 + ENDED 제외
+        if (!candidateIds.isEmpty()) {
+            Map<Long, Event> eventMap = eventRepository.findAllById(candidateIds).stream()
                     .collect(Collectors.toMap(Event::getId, e -> e));
 
-            // 정렬 유지 + ENDED 제외
-            for (Long id : hotEventIds) {
+            for (Long id : candidateIds) {
+                if (result.size() >= limit) break;
                 Event e = eventMap.get(id);
                 if (e == null) continue;
                 if (e.getStatus() == EventStatus.ENDED) continue;
-                result.add(e);
+                result.add(id);
             }
         }
 
@@ -116,74 +179,79 @@ public class HotEventService {
         if (result.size() < limit) {
             int remain = limit - result.size();
 
-            Set<Long> excludeIds = result.stream()
-                    .map(Event::getId)
-                    .collect(Collectors.toSet());
-
-            List<Long> excludeIdList = excludeIds.isEmpty()
+            List<Long> excludeIdList = result.isEmpty()
                     ? List.of(-1L) // IN () 방지용 더미
-                    : new ArrayList<>(excludeIds);
+                    : new ArrayList<>(result);
 
-            List<Event> fallback = eventRepository
+            eventRepository
                     .findTopByStatusNotAndIdNotInOrderByBookmarkCountDesc(
                             EventStatus.ENDED,
                             excludeIdList,
                             PageRequest.of(0, remain)
-                    );
-
-            result.addAll(fallback);
+                    )
+                    .forEach(e -> result.add(e.getId()));
         }
 
-        // 4) 최종 DTO 변환
-        return result.stream()
-                .map(eventInfoAssembler::assemble)
-                .collect(Collectors.toList());
+        return List.copyOf(result);
     }
 
-    // ================== 내부 헬퍼 메서드 ==================
-
-    /**
-     * 오늘자 ZSET score 조정 (양수/음수 모두 처리)
-     */
-    private void adjustEventScore(Long eventId, long delta) {
-        if (delta == 0L) return;
-
-        String key = buildKey(HOT_EVENT_KEY_PREFIX, LocalDate.now());
-        String member = String.valueOf(eventId);
-
-        redisTemplate.opsForZSet().incrementScore(key, member, delta);
-        redisTemplate.expire(key, KEY_TTL);
+    private List<Long> readTopCandidates(int count) {
+        return trendingScoreEngine.top(trendingPolicy, count).stream()
+                .map(entry -> Long.valueOf(entry.member()))
+                .toList();
     }
 
-    private String buildKey(String prefix, LocalDate date) {
-        // prefix: "hot:event", key 예시: "hot:event:2025-11-18"
-        return prefix + ":" + date;
-    }
+    // ================== 내부 헬퍼 메서드 ==================
 
-    private Map<Long, Long> aggregateLastNDaysScores(String prefix, int days) {
-        LocalDate today = LocalDate.now();
-        Map<Long, Long> scoreMap = new HashMap<>();
+    private List<ViewSignal> drainViewBuffer() {
+        List<ViewSignal> batch = new ArrayList<>(Math.min(viewBufferSize.get(), VIEW_FLUSH_BATCH_SIZE));
+        ViewSignal signal;
+        while (batch.size() < VIEW_FLUSH_BATCH_SIZE && (signal = viewBuffer.poll()) != null) {
+            viewBufferSize.decrementAndGet();
+            batch.add(signal);
+        }
+        return batch;
+    }
 
-        for (int i = 0; i < days; i++) {
-            LocalDate targetDate = today.minusDays(i);
-            String key = buildKey(prefix, targetDate);
+    private void flushViews(List<ViewSignal> batch) {
+        // 1) 조회 기록 (예: hot:viewed:123:2025-11-19) - 처음 조회라면 SADD 결과 1
+        List<Object> added = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (ViewSignal s : batch) {
+                String viewedKey = VIEWED_KEY_PREFIX + ":" + s.eventId() + ":" + s.date();
+                conn.sAdd(viewedKey, s.userId());
+                conn.expire(viewedKey, VIEWED_KEY_TTL.toSeconds());
+            }
+            return null;
+        });
 
-            Set<ZSetOperations.TypedTuple<String>> tuples =
-                    redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+        // 2) 첫 조회만 이벤트별로 합산해 한 번에 적립
+        double viewWeight = weightOf(Action.VIEW);
+        Map<String, Double> weights = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Object result = added.get(i * 2);
+            if (!(result instanceof Long n) || n <= 0) continue;
 
-            if (tuples == null || tuples.isEmpty()) continue;
+            weights.merge(String.valueOf(batch.get(i).eventId()), viewWeight, Double::sum);
+        }
 
-            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
-                if (tuple.getValue() == null || tuple.getScore() == null) continue;
+        trendingScoreEngine.recordAll(trendingPolicy, weights);
+    }
 
-                Long eventId = Long.valueOf(tuple.getValue());
-                long score = tuple.getScore().longValue();
+    /**
+     * 트렌딩 점수 조정 (양수/음수 모두 처리)
+     */
+    private void adjustEventScore(Long eventId, double weight) {
+        if (weight == 0D) return;
+        trendingScoreEngine.record(trendingPolicy, String.valueOf(eventId), weight);
+    }
 
-                scoreMap.merge(eventId, score, Long::sum);
-            }
-        }
+    // 설정(app.trending.policies.event.weights)에 없으면 Action 기본 가중치 사용
+    private double weightOf(Action action) {
+        return trendingPolicy.weight(action.name(), action.delta());
+    }
 
-        return scoreMap;
+    private record ViewSignal(Long eventId, String userId, LocalDate date) {
     }
 
     public enum Action {
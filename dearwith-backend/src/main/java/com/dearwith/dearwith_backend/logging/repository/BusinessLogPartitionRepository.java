@@ -0,0 +1,89 @@
+package com.dearwith.dearwith_backend.logging.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * business_log 일 단위 RANGE COLUMNS(created_at) 파티션 관리 (DDL 은 JdbcTemplate auto-commit)
+ * - 파티션 이름 p{yyyyMMdd} = 해당 일(UTC) 하루치, 마지막은 항상 pmax (MAXVALUE)
+ * - 새 파티션은 비어 있는 pmax 를 REORGANIZE 해서 추가 → 데이터 이동 없음
+ * - 테이블 DDL 은 docs/architecture/business-log-partitioning.md 참고
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusinessLogPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final String TABLE = "business_log";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일 단위 파티션 목록 (오름차순, pmax 제외). 파티셔닝 안 된 테이블이면 빈 목록
+     */
+    public List<LocalDate> findDailyPartitions() {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT PARTITION_NAME
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, String.class, TABLE);
+
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : names) {
+            if (MAX_PARTITION.equals(name)) continue;
+            days.add(LocalDate.parse(name, NAME_FORMAT));
+        }
+        return days;
+    }
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME = ?
+                """, Integer.class, TABLE, MAX_PARTITION);
+        return count != null && count > 0;
+    }
+
+    /**
+     * pmax 를 쪼개 days 각각의 파티션을 추가 (days 는 기존 마지막 파티션 이후, 오름차순)
+     */
+    public void addPartitions(List<LocalDate> days) {
+        if (days.isEmpty()) return;
+
+        String partitions = days.stream()
+                .map(day -> "PARTITION " + nameOf(day)
+                        + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00')")
+                .collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE
+                + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + partitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public void dropPartitions(Collection<LocalDate> days) {
+        if (days.isEmpty()) return;
+
+        String names = days.stream().map(BusinessLogPartitionRepository::nameOf).collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + names);
+    }
+
+    private static String nameOf(LocalDate day) {
+        return day.format(NAME_FORMAT);
+    }
+}
@@ -5,11 +5,28 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 
 public interface BusinessLogRepository extends JpaRepository<BusinessLog, Long> {
+
+    @Query("SELECT MIN(b.id) FROM BusinessLog b")
+    Long findMinId();
+
+    @Query("SELECT MAX(b.id) FROM BusinessLog b")
+    Long findMaxId();
+
+    /**
+     * id 구간 [fromId, toId) 안에서 threshold 이전 로그 삭제 (구간마다 짧은 트랜잭션)
+     */
+    @Transactional
     @Modifying
-    @Query("DELETE FROM BusinessLog b WHERE b.createdAt < :threshold")
-    int deleteByCreatedAtBefore(@Param("threshold") Instant threshold);
-}
\ No newline at end of file
+    @Query("DELETE FROM BusinessLog b WHERE b.id >= :fromId AND b.id < :toId AND b.createdAt < :threshold")
+    int deleteByIdRangeAndCreatedAtBefore(@Param("fromId") Long fromId,
+                                          @Param("toId") Long toId,
+                                          @Param("threshold") Instant threshold);
+
+    @Query("SELECT COUNT(b) FROM BusinessLog b WHERE b.id >= :fromId AND b.id < :toId")
+    long countByIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
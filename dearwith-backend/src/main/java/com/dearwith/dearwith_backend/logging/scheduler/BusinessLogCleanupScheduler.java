@@ -1,34 +1,116 @@
 package com.dearwith.dearwith_backend.logging.scheduler;
 
+import com.dearwith.dearwith_backend.logging.repository.BusinessLogPartitionRepository;
 import com.dearwith.dearwith_backend.logging.repository.BusinessLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * business_log 보관 기간 관리
+ * - 파티셔닝된 테이블: 앞으로 premake-days 만큼 일 파티션을 미리 만들고, 보관 기간이 지난 파티션은 DROP (메타데이터 작업)
+ * - 파티셔닝 안 된 테이블(이관 전): id 구간 단위로 나눠 DELETE (구간마다 짧은 트랜잭션)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class BusinessLogCleanupScheduler {
 
     private final BusinessLogRepository businessLogRepository;
+    private final BusinessLogPartitionRepository partitionRepository;
+
+    @Value("${app.business-log.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.business-log.partition-premake-days:7}")
+    private int premakeDays;
+
+    @Value("${app.business-log.delete-chunk-size:5000}")
+    private int deleteChunkSize;
+
+    @Value("${app.business-log.delete-max-chunks:2000}")
+    private int deleteMaxChunks;
 
     @Scheduled(cron = "0 0 4 * * *")
-    @Transactional
     public void cleanupOldLogs() {
-        Instant threshold = Instant.now().minus(Duration.ofDays(90));
+        Instant threshold = Instant.now().minus(Duration.ofDays(retentionDays));
+
+        try {
+            if (partitionRepository.isPartitioned()) {
+                managePartitions(threshold);
+            } else {
+                deleteInChunks(threshold);
+            }
+        } catch (Exception e) {
+            log.error("[BusinessLogCleanup] 정리 실패 (threshold={})", threshold, e);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 파티션 생성 / 삭제
+     *──────────────────────────────────────────────*/
+    private void managePartitions(Instant threshold) {
+        List<LocalDate> existing = partitionRepository.findDailyPartitions();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        // 1) 미래 파티션 (마지막 파티션 이후만 추가 가능)
+        LocalDate last = existing.isEmpty() ? today.minusDays(1) : existing.get(existing.size() - 1);
+        List<LocalDate> toAdd = new ArrayList<>();
+        for (LocalDate day = last.plusDays(1); !day.isAfter(today.plusDays(premakeDays)); day = day.plusDays(1)) {
+            toAdd.add(day);
+        }
+        partitionRepository.addPartitions(toAdd);
+
+        // 2) 하루치 전체가 threshold 이전인 파티션만 DROP
+        LocalDate thresholdDay = LocalDate.ofInstant(threshold, ZoneOffset.UTC);
+        List<LocalDate> toDrop = existing.stream()
+                .filter(day -> day.isBefore(thresholdDay))
+                .toList();
+        partitionRepository.dropPartitions(toDrop);
+
+        log.info(
+                "[BusinessLogCleanup] 파티션 {}개 추가, {}일 이전 파티션 {}개 삭제 완료 (threshold={})",
+                toAdd.size(),
+                retentionDays,
+                toDrop.size(),
+                threshold
+        );
+    }
+
+    /*──────────────────────────────────────────────
+     | 파티셔닝 전 fallback: id 구간 단위 DELETE
+     | - id 는 생성 순서이므로 남은 행(threshold 이후)이 있는 구간에서 종료
+     *──────────────────────────────────────────────*/
+    private void deleteInChunks(Instant threshold) {
+        Long minId = businessLogRepository.findMinId();
+        Long maxId = businessLogRepository.findMaxId();
+        if (minId == null || maxId == null) return;
+
+        long deletedCount = 0;
+        int chunks = 0;
+        for (long fromId = minId; fromId <= maxId && chunks < deleteMaxChunks; fromId += deleteChunkSize) {
+            long toId = fromId + deleteChunkSize;
+            chunks++;
+            deletedCount += businessLogRepository.deleteByIdRangeAndCreatedAtBefore(fromId, toId, threshold);
 
-        int deletedCount = businessLogRepository.deleteByCreatedAtBefore(threshold);
+            if (businessLogRepository.countByIdRange(fromId, toId) > 0) break;
+        }
 
         log.info(
-                "[BusinessLogCleanup] {}일 이전 로그 {}건 삭제 완료 (threshold={})",
-                90,
+                "[BusinessLogCleanup] {}일 이전 로그 {}건 삭제 완료 (chunks={}, threshold={})",
+                retentionDays,
                 deletedCount,
+                chunks,
                 threshold
         );
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.dearwith.dearwith_backend.notification.controller;
 
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
+import com.dearwith.dearwith_backend.notification.dto.NotificationBulkResponseDto;
 import com.dearwith.dearwith_backend.notification.dto.NotificationResponseDto;
 import com.dearwith.dearwith_backend.notification.dto.UnreadExistsResponseDto;
 import com.dearwith.dearwith_backend.notification.service.NotificationService;
@@ -46,6 +48,22 @@ public class NotificationController {
         return notificationService.getNotifications(userId, onlyUnread, pageable);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "알림 목록 조회 (커서)",
+            description = """
+                    현재 로그인한 사용자의 알림 목록을 최신순 커서 방식으로 반환합니다. (무한 스크롤용)
+                    - onlyUnread=true 이면 읽지 않은 알림만 조회합니다.
+                    - 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+                    """)
+    public CursorSliceDto<NotificationResponseDto> getNotificationsByCursor(
+            @CurrentUser UUID userId,
+            @RequestParam(name = "onlyUnread", defaultValue = "false") boolean onlyUnread,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return notificationService.getNotificationsByCursor(userId, onlyUnread, cursor, size);
+    }
+
     // 3) 단일 알림 읽음 처리
     @PatchMapping("/{notificationId}/read")
     @Operation(summary = "단일 알림 읽음 처리")
@@ -59,12 +77,11 @@ public class NotificationController {
 
     // 4) 전체 알림 읽음 처리
     @PatchMapping("/read-all")
-    @Operation(summary = "전체 알림 읽음 처리")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void markAllAsRead(
+    @Operation(summary = "전체 알림 읽음 처리", description = "읽음 처리된 알림 수를 반환합니다.")
+    public NotificationBulkResponseDto markAllAsRead(
             @CurrentUser UUID userId
     ) {
-        notificationService.markAllAsRead(userId);
+        return notificationService.markAllAsRead(userId);
     }
 
     // 5) 단일 알림 삭제
@@ -85,12 +102,12 @@ public class NotificationController {
                     현재 로그인한 사용자의 알림을 전체 삭제합니다.
                     - onlyRead=true 이면 '읽은 알림'만 삭제합니다.
                     - onlyRead=false 이면 모든 알림을 삭제합니다.
+                    - 삭제된 알림 수를 반환합니다.
                     """)
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteAll(
+    public NotificationBulkResponseDto deleteAll(
             @CurrentUser UUID userId,
             @RequestParam(name = "onlyRead", defaultValue = "false") boolean onlyRead
     ) {
-        notificationService.deleteAll(userId, onlyRead);
+        return notificationService.deleteAll(userId, onlyRead);
     }
 }
@@ -0,0 +1,6 @@
+package com.dearwith.dearwith_backend.notification.dto;
+
+public record NotificationBulkResponseDto(
+        long affectedCount
+) {
+}
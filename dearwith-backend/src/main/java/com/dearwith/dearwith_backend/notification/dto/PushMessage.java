@@ -0,0 +1,19 @@
+package com.dearwith.dearwith_backend.notification.dto;
+
+/**
+ * 발송할 푸시 내용
+ *
+ * pushId      같은 발송이 재전달돼도 단말에서 중복 표시를 걸러내는 키 (data.pushId, 없으면 null)
+ * collapseKey 단말에서 같은 키의 이전 알림을 대체 (Android collapse_key / APNs apns-collapse-id / WebPush Topic)
+ */
+public record PushMessage(
+        String title,
+        String body,
+        String url,
+        String pushId,
+        String collapseKey
+) {
+    public static PushMessage of(String title, String body, String url) {
+        return new PushMessage(title, body, url, null, null);
+    }
+}
@@ -10,7 +10,8 @@ public record PushRetryJob(
         @JsonProperty("title") String title,
         @JsonProperty("body") String body,
         @JsonProperty("url") String url,
-        @JsonProperty("attempt") int attempt
+        @JsonProperty("attempt") int attempt,
+        @JsonProperty("collapseKey") String collapseKey
 ) {
     @JsonCreator
     public PushRetryJob {
@@ -24,6 +25,6 @@ public record PushRetryJob(
     }
 
     public PushRetryJob withIncrementedAttempt() {
-        return new PushRetryJob(tokens, title, body, url, attempt + 1);
+        return new PushRetryJob(tokens, title, body, url, attempt + 1, collapseKey);
     }
 }
@@ -8,6 +8,14 @@ import lombok.*;
 import java.time.Instant;
 import java.util.UUID;
 @Entity
+@Table(indexes = {
+        // 알림함 커서 조회 (user_id, created_at, id)
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"),
+        // 안 읽은 알림 커서 조회 / 개수 (user_id, is_read, created_at, id)
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at, id"),
+        // 전체 읽음/삭제 id 구간 조회 (user_id, id)
+        @Index(name = "idx_notification_user_id", columnList = "user_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,92 @@
+package com.dearwith.dearwith_backend.notification.entity;
+
+import com.dearwith.dearwith_backend.common.jpa.BaseTimeEntity;
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 푸시 발송 아웃박스
+ * - 알림 저장과 같은 트랜잭션에서 기록 → 커밋된 알림의 푸시는 재시작 후에도 유실되지 않음
+ * - PushOutboxDispatcher 가 PENDING 행을 선점(PROCESSING + lockedUntil)해 발송
+ * - idempotencyKey 로 같은 발송의 중복 적재 방지, 단말에는 pushId 로 전달 (at-least-once)
+ * - type 이 있는 소규모 발송은 묶음 구간만큼 늦게 발송 → 같은 유저/종류 푸시를 하나로 합침
+ */
+@Entity
+@Table(
+        name = "push_outbox",
+        indexes = {
+                @Index(name = "idx_push_outbox_status_next", columnList = "status, next_attempt_at, id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_push_outbox_idempotency_key", columnNames = "idempotency_key")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushOutbox extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 150)
+    private String idempotencyKey;
+
+    /** 알림 종류 (유저별 묶음 발송 기준, null 이면 묶지 않음) */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private NotificationType type;
+
+    /** 수신 유저 id (콤마 구분) */
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String recipients;
+
+    @Column(nullable = false)
+    private int recipientCount;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(length = 500)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PushOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    /** PROCESSING 선점 만료 시각 (지나면 다른 디스패처가 다시 가져감) */
+    private Instant lockedUntil;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static String joinRecipients(List<UUID> userIds) {
+        return userIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    public List<UUID> recipientIds() {
+        if (recipients == null || recipients.isBlank()) return List.of();
+        return Arrays.stream(recipients.split(","))
+                .map(UUID::fromString)
+                .toList();
+    }
+}
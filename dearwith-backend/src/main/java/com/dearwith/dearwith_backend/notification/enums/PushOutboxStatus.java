@@ -0,0 +1,5 @@
+package com.dearwith.dearwith_backend.notification.enums;
+
+public enum PushOutboxStatus {
+    PENDING, PROCESSING, SENT, FAILED
+}
@@ -0,0 +1,25 @@
+package com.dearwith.dearwith_backend.notification.event;
+
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+
+import java.util.UUID;
+
+/**
+ * 이벤트 생성/수정 알림 요청 → 커밋 이후 비동기 팬아웃 (EventNotificationFanOutService)
+ * - ARTIST_EVENT_CREATED: 이벤트 아티스트/그룹 팔로워
+ * - EVENT_CHANGED: 이벤트 북마크 유저
+ * - actorUserId: 작성/수정한 유저 (알림 대상에서 제외)
+ */
+public record EventNotificationRequestedEvent(
+        Long eventId,
+        NotificationType type,
+        UUID actorUserId
+) {
+    public static EventNotificationRequestedEvent created(Long eventId, UUID actorUserId) {
+        return new EventNotificationRequestedEvent(eventId, NotificationType.ARTIST_EVENT_CREATED, actorUserId);
+    }
+
+    public static EventNotificationRequestedEvent changed(Long eventId, UUID actorUserId) {
+        return new EventNotificationRequestedEvent(eventId, NotificationType.EVENT_CHANGED, actorUserId);
+    }
+}
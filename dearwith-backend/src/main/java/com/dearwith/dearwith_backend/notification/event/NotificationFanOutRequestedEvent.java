@@ -0,0 +1,23 @@
+package com.dearwith.dearwith_backend.notification.event;
+
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+
+/**
+ * 전체 유저 대상 알림 발송 요청 → 커밋 이후 팬아웃 작업 시작
+ * - jobId 는 같은 발송에 대해 항상 같은 값 (예: SYSTEM:12) → 중복 요청/재개 시 같은 작업으로 취급
+ * - pushTitle 이 null 이면 인앱 알림만 생성
+ */
+public record NotificationFanOutRequestedEvent(
+        String jobId,
+        NotificationType type,
+        String title,
+        String content,
+        Long targetId,
+        String pushTitle,
+        String pushBody,
+        String url
+) {
+    public boolean sendPush() {
+        return pushTitle != null;
+    }
+}
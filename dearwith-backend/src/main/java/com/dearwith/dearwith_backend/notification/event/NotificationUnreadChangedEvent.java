@@ -0,0 +1,26 @@
+package com.dearwith.dearwith_backend.notification.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 안 읽은 알림 수 변경 → 커밋 이후 카운터 반영
+ * - recount=true 이면 증감 대신 카운터를 비워 다음 조회 시 DB 기준으로 다시 계산
+ */
+public record NotificationUnreadChangedEvent(
+        List<UUID> userIds,
+        long delta,
+        boolean recount
+) {
+    public static NotificationUnreadChangedEvent increment(List<UUID> userIds) {
+        return new NotificationUnreadChangedEvent(userIds, 1L, false);
+    }
+
+    public static NotificationUnreadChangedEvent decrement(UUID userId) {
+        return new NotificationUnreadChangedEvent(List.of(userId), -1L, false);
+    }
+
+    public static NotificationUnreadChangedEvent recount(UUID userId) {
+        return new NotificationUnreadChangedEvent(List.of(userId), 0L, true);
+    }
+}
@@ -1,12 +1,24 @@
 package com.dearwith.dearwith_backend.notification.event;
 
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 푸시 발송 요청 → 같은 트랜잭션에서 push_outbox 에 적재 (PushNotificationEventListener)
+ * - type: 유저별 같은 종류 푸시를 짧은 구간 안에서 묶는 기준 (null 이면 묶지 않음)
+ * - idempotencyKey: 같은 발송을 다시 요청해도 한 번만 적재 (null 이면 무작위 키)
+ */
 public record PushNotificationEvent(
+        NotificationType type,
         List<UUID> userIds,
         String title,
         String body,
-        String url
+        String url,
+        String idempotencyKey
 ) {
+    public PushNotificationEvent(NotificationType type, List<UUID> userIds, String title, String body, String url) {
+        this(type, userIds, title, body, url, null);
+    }
 }
@@ -1,11 +1,9 @@
 package com.dearwith.dearwith_backend.notification.event;
 
 
-import com.dearwith.dearwith_backend.notification.service.PushNotificationService;
+import com.dearwith.dearwith_backend.notification.service.PushOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -15,22 +13,16 @@ import org.springframework.transaction.event.TransactionPhase;
 @RequiredArgsConstructor
 public class PushNotificationEventListener {
 
-    private final PushNotificationService pushNotificationService;
+    private final PushOutboxService pushOutboxService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onAfterCommit(PushNotificationEvent event) {
+    /**
+     * 커밋 직전 아웃박스 적재 (알림 저장과 같은 트랜잭션)
+     * - 실제 발송은 PushOutboxDispatcher 가 커밋된 행만 가져가서 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBeforeCommit(PushNotificationEvent event) {
         if (event == null || event.userIds() == null || event.userIds().isEmpty()) return;
 
-        try {
-            pushNotificationService.sendToUsers(
-                    event.userIds(),
-                    event.title(),
-                    event.body(),
-                    event.url()
-            );
-        } catch (Exception e) {
-            log.error("[push-event] failed. size={}, title={}", event.userIds().size(), event.title(), e);
-        }
+        pushOutboxService.enqueue(event);
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,13 @@ package com.dearwith.dearwith_backend.notification.repository;
 import com.dearwith.dearwith_backend.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,18 +26,83 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 읽지 않은 것만
     Page<Notification> findByUserIdAndReadFalse(UUID userId, Pageable pageable);
 
+    // 알림 목록 커서 조회 (createdAt, id 내림차순) - idx_notification_user_created
+    @Query("""
+        select n
+          from Notification n
+         where n.userId = :userId
+           and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :lastId))
+         order by n.createdAt desc, n.id desc
+    """)
+    Slice<Notification> findInboxSlice(@Param("userId") UUID userId,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("lastId") Long lastId,
+                                       Pageable pageable);
+
+    // 읽지 않은 것만 커서 조회 - idx_notification_user_read_created
+    @Query("""
+        select n
+          from Notification n
+         where n.userId = :userId
+           and n.read = false
+           and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :lastId))
+         order by n.createdAt desc, n.id desc
+    """)
+    Slice<Notification> findUnreadInboxSlice(@Param("userId") UUID userId,
+                                             @Param("createdAt") Instant createdAt,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
+
     // 단일 조회 (권한 체크용)
     Optional<Notification> findByIdAndUserId(Long id, UUID userId);
 
-    // 모두 읽지 않은 알림 조회
-    List<Notification> findByUserIdAndReadFalse(UUID userId);
+    /*──────────────────────────────────────────────
+     | 일괄 처리 (id 구간 단위 set-based update/delete)
+     | - 엔티티를 로딩하지 않고 구간별 UPDATE/DELETE 1회
+     | - 상한(maxId)은 시작 시점에 고정 → 처리 중 새로 생긴 알림은 대상 아님
+     *──────────────────────────────────────────────*/
+    // 구간 조회는 idx_notification_user_id (user_id, id)
+    @Query("select max(n.id) from Notification n where n.userId = :userId")
+    Long findMaxIdByUserId(@Param("userId") UUID userId);
 
-    // 읽은 알림만 삭제용
-    List<Notification> findByUserIdAndReadTrue(UUID userId);
+    // 다음 구간의 상한 id 후보 (구간 크기만큼 id 조회 후 마지막 값 사용)
+    @Query("""
+        select n.id
+          from Notification n
+         where n.userId = :userId
+           and n.id > :fromId
+           and n.id <= :maxId
+         order by n.id asc
+    """)
+    List<Long> findIdsInRange(@Param("userId") UUID userId,
+                              @Param("fromId") Long fromId,
+                              @Param("maxId") Long maxId,
+                              Pageable pageable);
 
-    // 전체 알림 조회
-    List<Notification> findByUserId(UUID userId);
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update Notification n
+           set n.read = true, n.readAt = :now
+         where n.userId = :userId
+           and n.read = false
+           and n.id > :fromId
+           and n.id <= :toId
+    """)
+    int bulkMarkReadInRange(@Param("userId") UUID userId,
+                            @Param("fromId") Long fromId,
+                            @Param("toId") Long toId,
+                            @Param("now") Instant now);
 
-    void deleteByUserIdAndReadTrue(UUID userId);
-    void deleteByUserId(UUID userId);
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        delete from Notification n
+         where n.userId = :userId
+           and n.id > :fromId
+           and n.id <= :toId
+           and (:onlyRead = false or n.read = true)
+    """)
+    int bulkDeleteInRange(@Param("userId") UUID userId,
+                          @Param("fromId") Long fromId,
+                          @Param("toId") Long toId,
+                          @Param("onlyRead") boolean onlyRead);
 }
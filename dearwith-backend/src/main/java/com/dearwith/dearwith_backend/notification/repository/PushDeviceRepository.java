@@ -28,6 +28,22 @@ public interface PushDeviceRepository extends JpaRepository<PushDevice, Long> {
     """)
     int disableAllByFcmToken(String fcmToken, Instant disabledAt, String reason);
 
+    // 멀티캐스트 배치의 영구 실패 토큰 일괄 비활성화
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update PushDevice d
+           set d.enabled = false,
+               d.disabledAt = :disabledAt,
+               d.disabledReason = :reason
+         where d.fcmToken in :fcmTokens
+           and d.enabled = true
+    """)
+    int disableAllByFcmTokens(
+            @Param("fcmTokens") Collection<String> fcmTokens,
+            @Param("disabledAt") Instant disabledAt,
+            @Param("reason") String reason
+    );
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update PushDevice d
@@ -110,6 +126,7 @@ public interface PushDeviceRepository extends JpaRepository<PushDevice, Long> {
             @Param("expireThreshold") Instant expireThreshold
     );
 
+    // 대량 발송용: 유저 id 청크(1,000명) 단위로 호출 → 결과 크기는 청크의 활성 기기 수로 제한
     @Query("""
         SELECT DISTINCT d.fcmToken
         FROM PushDevice d
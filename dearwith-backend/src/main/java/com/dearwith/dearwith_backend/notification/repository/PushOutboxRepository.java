@@ -0,0 +1,112 @@
+package com.dearwith.dearwith_backend.notification.repository;
+
+import com.dearwith.dearwith_backend.notification.entity.PushOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * 발송할 행 선점용 조회
+     * - 실행 시각이 된 PENDING + 선점이 만료된 PROCESSING(디스패처 중단)
+     * - SKIP LOCKED: 다른 인스턴스가 잠근 행은 건너뜀 → 인스턴스 간 중복 선점 없음
+     */
+    @Query(value = """
+        SELECT o.id
+        FROM push_outbox o
+        WHERE (o.status = 'PENDING' AND o.next_attempt_at <= :now)
+           OR (o.status = 'PROCESSING' AND o.locked_until < :now)
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * 묶음 발송용: 같은 종류의 대기 중 소규모 발송을 앞당겨 선점
+     * - until = now + 묶음 구간 → 구간 안에 뒤따라 들어온 푸시까지 함께 처리
+     */
+    @Query(value = """
+        SELECT o.id
+        FROM push_outbox o
+        WHERE o.status = 'PENDING'
+          AND o.type = :type
+          AND o.next_attempt_at <= :until
+          AND o.recipient_count <= :maxRecipients
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockPendingIdsByType(@Param("type") String type,
+                                    @Param("until") Instant until,
+                                    @Param("maxRecipients") int maxRecipients,
+                                    @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update PushOutbox o
+           set o.status = com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus.PROCESSING,
+               o.lockedUntil = :lockedUntil,
+               o.attempts = o.attempts + 1,
+               o.updatedAt = :now
+         where o.id in :ids
+    """)
+    int markProcessing(@Param("ids") List<Long> ids,
+                       @Param("lockedUntil") Instant lockedUntil,
+                       @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update PushOutbox o
+           set o.status = com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus.SENT,
+               o.lockedUntil = null,
+               o.updatedAt = :now
+         where o.id in :ids
+    """)
+    int markSent(@Param("ids") List<Long> ids, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update PushOutbox o
+           set o.status = com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus.PENDING,
+               o.nextAttemptAt = :nextAttemptAt,
+               o.lockedUntil = null,
+               o.lastError = :error,
+               o.updatedAt = :now
+         where o.id = :id
+    """)
+    int reschedule(@Param("id") Long id,
+                   @Param("nextAttemptAt") Instant nextAttemptAt,
+                   @Param("error") String error,
+                   @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update PushOutbox o
+           set o.status = com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus.FAILED,
+               o.lockedUntil = null,
+               o.lastError = :error,
+               o.updatedAt = :now
+         where o.id = :id
+    """)
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("now") Instant now);
+
+    // 보관 기간 지난 완료/실패 행 정리 (LIMIT 단위로 반복 호출)
+    @Modifying
+    @Query(value = """
+        DELETE FROM push_outbox
+        WHERE status = :status
+          AND updated_at < :before
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("status") String status,
+                             @Param("before") Instant before,
+                             @Param("limit") int limit);
+}
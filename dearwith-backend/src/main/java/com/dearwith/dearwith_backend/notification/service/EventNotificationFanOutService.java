@@ -0,0 +1,334 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.artist.repository.ArtistBookmarkRepository;
+import com.dearwith.dearwith_backend.artist.repository.ArtistGroupBookmarkRepository;
+import com.dearwith.dearwith_backend.event.entity.Event;
+import com.dearwith.dearwith_backend.event.repository.EventBookmarkRepository;
+import com.dearwith.dearwith_backend.event.repository.EventRepository;
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.event.EventNotificationRequestedEvent;
+import com.dearwith.dearwith_backend.notification.event.NotificationUnreadChangedEvent;
+import com.dearwith.dearwith_backend.notification.event.PushNotificationEvent;
+import com.dearwith.dearwith_backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 이벤트 생성/수정 알림 팬아웃
+ * - 이벤트 저장 트랜잭션 커밋 이후 전용 실행기에서 처리 → 이벤트 저장 응답 시간은 팔로워 수와 무관
+ * - 대상 유저 id 를 keyset 으로 CHUNK 단위 조회 → 로그인 가능 유저만 multi-row INSERT (청크마다 짧은 트랜잭션)
+ * - 아티스트와 그룹을 함께 팔로우한 유저는 한 번만 (그룹 단계에서 이미 받은 유저 제외)
+ * - 요청은 Redis 대기 큐(EventNotificationQueue)에 먼저 적재 → 실행기가 꽉 차거나 노드가 죽어도 유실 없이 다시 실행
+ *   (재개 실행은 첫 선점 이후 이미 받은 유저 제외)
+ * - EVENT_CHANGED 는 첫 수정 후 쿨다운이 끝나는 시점에 한 번 발송 (trailing edge, 그 사이 수정은 합침)
+ */
+@Slf4j
+@Service
+public class EventNotificationFanOutService {
+
+    private static final Duration REJECTED_RETRY_DELAY = Duration.ofSeconds(5);
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final EventRepository eventRepository;
+    private final ArtistBookmarkRepository artistBookmarkRepository;
+    private final ArtistGroupBookmarkRepository artistGroupBookmarkRepository;
+    private final EventBookmarkRepository eventBookmarkRepository;
+    private final UserRepository userRepository;
+    private final NotificationBulkWriter bulkWriter;
+    private final NotificationService notificationService;
+    private final EventNotificationQueue queue;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor fanOutExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.notification.event.changed-cooldown-seconds:600}")
+    private long changedCooldownSeconds;
+
+    @Value("${app.notification.event.claim-batch-size:10}")
+    private int claimBatchSize;
+
+    @Value("${app.notification.event.lease-seconds:1800}")
+    private long leaseSeconds;
+
+    @Value("${app.notification.event.max-runs:5}")
+    private int maxRuns;
+
+    private TransactionTemplate readOnlyTx;
+
+    public EventNotificationFanOutService(EventRepository eventRepository,
+                                          ArtistBookmarkRepository artistBookmarkRepository,
+                                          ArtistGroupBookmarkRepository artistGroupBookmarkRepository,
+                                          EventBookmarkRepository eventBookmarkRepository,
+                                          UserRepository userRepository,
+                                          NotificationBulkWriter bulkWriter,
+                                          NotificationService notificationService,
+                                          EventNotificationQueue queue,
+                                          TransactionTemplate transactionTemplate,
+                                          ApplicationEventPublisher eventPublisher,
+                                          @Qualifier("notificationFanOutExecutor") TaskExecutor fanOutExecutor,
+                                          MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.artistBookmarkRepository = artistBookmarkRepository;
+        this.artistGroupBookmarkRepository = artistGroupBookmarkRepository;
+        this.eventBookmarkRepository = eventBookmarkRepository;
+        this.userRepository = userRepository;
+        this.bulkWriter = bulkWriter;
+        this.notificationService = notificationService;
+        this.queue = queue;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fanOutExecutor = fanOutExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        readOnlyTx.setReadOnly(true);
+    }
+
+    /*──────────────────────────────────────────────
+     | 요청 적재 (이벤트 저장 트랜잭션 커밋 이후)
+     | - 생성: 즉시 발송 대상
+     | - 수정: 쿨다운 끝에 발송, 그 전의 추가 수정은 같은 발송으로 합침
+     *──────────────────────────────────────────────*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventNotificationRequested(EventNotificationRequestedEvent request) {
+        if (request.eventId() == null || request.type() == null) return;
+
+        Instant sendAt = request.type() == NotificationType.EVENT_CHANGED
+                ? Instant.now().plusSeconds(changedCooldownSeconds)
+                : Instant.now();
+        try {
+            boolean scheduled = queue.enqueue(request.type(), request.eventId(), request.actorUserId(), sendAt);
+            if (!scheduled) {
+                log.debug("[event-notification] coalesced. eventId={}, type={}", request.eventId(), request.type());
+            }
+        } catch (Exception e) {
+            log.error("[event-notification] enqueue failed. eventId={}, type={}",
+                    request.eventId(), request.type(), e);
+        }
+    }
+
+    /**
+     * 발송 시각이 된 요청 선점 → 팬아웃 실행기로 제출 (거절되면 잠시 후 다시)
+     */
+    @Scheduled(fixedDelayString = "${app.notification.event.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            for (EventNotificationQueue.Job job : queue.claim(claimBatchSize, Duration.ofSeconds(leaseSeconds))) {
+                try {
+                    fanOutExecutor.execute(() -> run(job));
+                } catch (TaskRejectedException e) {
+                    log.warn("[event-notification] executor busy, will retry. eventId={}, type={}",
+                            job.eventId(), job.type());
+                    queue.release(job.member(), Instant.now().plus(REJECTED_RETRY_DELAY));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[event-notification] poll failed", e);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 팬아웃 실행
+     *──────────────────────────────────────────────*/
+    void run(EventNotificationQueue.Job job) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            EventNotificationQueue.RunState state = queue.start(job);
+            if (state.runs() > maxRuns) {
+                log.error("[event-notification] gave up after {} runs. eventId={}, type={}",
+                        maxRuns, job.eventId(), job.type());
+                complete(job);
+                return;
+            }
+
+            FanOutRun request = new FanOutRun(job.type(), state.actorUserId(), state.firstClaimedAt(), state.resumed());
+            EventTarget target = readOnlyTx.execute(status -> loadTarget(job.eventId()));
+            long inserted = 0L;
+            if (target != null) {
+                inserted = switch (job.type()) {
+                    case ARTIST_EVENT_CREATED -> fanOutToFollowers(request, target);
+                    case EVENT_CHANGED -> fanOut(request, target, request.resumed(),
+                            (lastUserId, page) -> eventBookmarkRepository.findUserIdsByEventIdAfter(
+                                    target.eventId(), lastUserId, page));
+                    default -> 0L;
+                };
+            }
+            complete(job);
+
+            meterRegistry.counter("notification.event.fanout.inserted", "type", job.type().name())
+                    .increment(inserted);
+            log.info("[event-notification] done. eventId={}, type={}, inserted={}, runs={}",
+                    job.eventId(), job.type(), inserted, state.runs());
+        } catch (Exception e) {
+            // 선점 만료 후 다시 실행 (이미 받은 유저는 제외)
+            log.error("[event-notification] failed, will retry after lease. eventId={}, type={}",
+                    job.eventId(), job.type(), e);
+        } finally {
+            sample.stop(meterRegistry.timer("notification.event.fanout", "type", job.type().name()));
+        }
+    }
+
+    // 처리 중 들어온 수정이 있으면 다시 쿨다운 끝에 발송
+    private void complete(EventNotificationQueue.Job job) {
+        queue.complete(job.member(), Instant.now().plusSeconds(changedCooldownSeconds));
+    }
+
+    private long fanOutToFollowers(FanOutRun request, EventTarget target) {
+        long inserted = 0L;
+
+        if (!target.artistIds().isEmpty()) {
+            inserted += fanOut(request, target, request.resumed(),
+                    (lastUserId, page) -> artistBookmarkRepository.findUserIdsByArtistIdsAfter(
+                            target.artistIds(), lastUserId, page));
+        }
+
+        if (!target.groupIds().isEmpty()) {
+            // 아티스트 단계에서 이미 받은 유저 제외
+            boolean dedupe = request.resumed() || !target.artistIds().isEmpty();
+            inserted += fanOut(request, target, dedupe,
+                    (lastUserId, page) -> artistGroupBookmarkRepository.findUserIdsByGroupIdsAfter(
+                            target.groupIds(), lastUserId, page));
+        }
+        return inserted;
+    }
+
+    private long fanOut(FanOutRun request,
+                        EventTarget target,
+                        boolean dedupe,
+                        AudienceSource source) {
+        UUID cursor = MIN_UUID;
+        long inserted = 0L;
+
+        while (true) {
+            List<UUID> page = source.next(cursor, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) break;
+
+            cursor = page.get(page.size() - 1);
+            Integer n = transactionTemplate.execute(status -> processChunk(request, target, page, dedupe));
+            inserted += n == null ? 0 : n;
+
+            if (page.size() < chunkSize) break;
+        }
+        return inserted;
+    }
+
+    private int processChunk(FanOutRun request,
+                             EventTarget target,
+                             List<UUID> page,
+                             boolean dedupe) {
+        NotificationType type = request.type();
+
+        List<UUID> candidates = page.stream()
+                .filter(id -> !id.equals(request.actorUserId()))
+                .toList();
+        if (dedupe && !candidates.isEmpty()) {
+            Set<UUID> already = bulkWriter.findAlreadyNotifiedSince(candidates, type, target.eventId(), request.since());
+            if (!already.isEmpty()) {
+                candidates = candidates.stream().filter(id -> !already.contains(id)).toList();
+            }
+        }
+        if (candidates.isEmpty()) return 0;
+
+        List<UserRepository.NotificationTargetRow> rows = userRepository.findLoginAllowedTargetsByIdIn(candidates);
+        List<UUID> userIds = rows.stream().map(UserRepository.NotificationTargetRow::getId).toList();
+        if (userIds.isEmpty()) return 0;
+
+        String content = contentOf(type, target);
+        int inserted = bulkWriter.insert(userIds, type, target.title(), content, target.eventId());
+
+        // 안 읽은 알림 카운터(커밋 이후) / 푸시 아웃박스(같은 트랜잭션)
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.increment(userIds));
+
+        List<UUID> pushTargets = rows.stream()
+                .filter(r -> Boolean.TRUE.equals(r.getEventNotificationEnabled()))
+                .map(UserRepository.NotificationTargetRow::getId)
+                .toList();
+        if (!pushTargets.isEmpty()) {
+            eventPublisher.publishEvent(new PushNotificationEvent(
+                    type,
+                    pushTargets,
+                    pushTitleOf(type, target),
+                    content,
+                    notificationService.buildFullUrl(type, target.eventId())
+            ));
+        }
+        return inserted;
+    }
+
+    // ================== 내부 헬퍼 ==================
+
+    private EventTarget loadTarget(Long eventId) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null || event.isDeleted()) return null;
+
+        List<Long> artistIds = new ArrayList<>();
+        List<Long> groupIds = new ArrayList<>();
+        String leadName = null;
+
+        for (var mapping : event.getArtists()) {
+            artistIds.add(mapping.getArtist().getId());
+            if (leadName == null) leadName = mapping.getArtist().getNameKr();
+        }
+        for (var mapping : event.getArtistGroups()) {
+            groupIds.add(mapping.getArtistGroup().getId());
+            if (leadName == null) leadName = mapping.getArtistGroup().getNameKr();
+        }
+
+        return new EventTarget(event.getId(), event.getTitle(), List.copyOf(artistIds), List.copyOf(groupIds), leadName);
+    }
+
+    private static String contentOf(NotificationType type, EventTarget target) {
+        if (type == NotificationType.EVENT_CHANGED) {
+            return "북마크한 이벤트 정보가 변경되었어요.";
+        }
+        return target.leadName() != null
+                ? target.leadName() + "의 새 이벤트가 등록되었어요."
+                : "관심 아티스트의 새 이벤트가 등록되었어요.";
+    }
+
+    private static String pushTitleOf(NotificationType type, EventTarget target) {
+        return (type == NotificationType.EVENT_CHANGED ? "[변경] " : "[새 이벤트] ") + target.title();
+    }
+
+    @FunctionalInterface
+    private interface AudienceSource {
+        // lastUserId 보다 큰 유저 id 를 오름차순으로 최대 page 크기만큼
+        List<UUID> next(UUID lastUserId, Pageable page);
+    }
+
+    /**
+     * 한 번의 팬아웃 실행 정보
+     * @param since   중복 확인 기준 시각 (첫 선점 시각)
+     * @param resumed 중단된 실행의 재개 여부
+     */
+    private record FanOutRun(NotificationType type, UUID actorUserId, Instant since, boolean resumed) {
+    }
+
+    private record EventTarget(Long eventId, String title, List<Long> artistIds, List<Long> groupIds, String leadName) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이벤트 생성/수정 알림 대기 큐 (Redis)
+ * - notification:event:pending    : 대기 중 "{type}:{eventId}" (score = 발송 시각)
+ * - notification:event:processing : 처리 중 (score = 선점 만료 시각)
+ * - notification:event:job:{key}  : actor / dirty / runs / firstClaimedAt
+ * - 같은 이벤트·종류는 하나로 합침 → 대기 중이면 추가 요청은 무시, 처리 중이면 dirty 표시 후 완료 시 다시 예약
+ * - 처리 중 인스턴스가 죽으면 선점 만료 후 다시 대기 큐로 (runs 가 남아 있어 재개로 판단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventNotificationQueue {
+
+    private static final String PENDING_KEY = "notification:event:pending";
+    private static final String PROCESSING_KEY = "notification:event:processing";
+    private static final String JOB_KEY_PREFIX = "notification:event:job:";
+
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=대기, KEYS[2]=처리 중, KEYS[3]=작업 hash
+     | ARGV[1]=멤버, ARGV[2]=발송 시각(ms), ARGV[3]=actor, ARGV[4]=작업 TTL(s)
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[3], 'actor', ARGV[3])
+            redis.call('EXPIRE', KEYS[3], tonumber(ARGV[4]))
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              return 0
+            end
+            if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+              redis.call('HSET', KEYS[3], 'dirty', '1')
+              return 0
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=대기, KEYS[2]=처리 중
+     | ARGV[1]=now(ms), ARGV[2]=최대 개수, ARGV[3]=선점 만료 시각(ms)
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            for _, m in ipairs(expired) do
+              redis.call('ZREM', KEYS[2], m)
+              redis.call('ZADD', KEYS[1], ARGV[1], m)
+            end
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, m in ipairs(due) do
+              redis.call('ZREM', KEYS[1], m)
+              redis.call('ZADD', KEYS[2], ARGV[3], m)
+            end
+            return due
+            """, List.class);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=대기, KEYS[2]=처리 중, KEYS[3]=작업 hash
+     | ARGV[1]=멤버, ARGV[2]=dirty 일 때 다음 발송 시각(ms)
+     | 처리 중에 들어온 요청이 있으면 다음 창 끝으로 다시 예약, 없으면 정리
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if redis.call('HGET', KEYS[3], 'dirty') == '1' then
+              redis.call('HDEL', KEYS[3], 'dirty', 'runs', 'firstClaimedAt')
+              redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+              return 1
+            end
+            redis.call('DEL', KEYS[3])
+            return 0
+            """, Long.class);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=대기, KEYS[2]=처리 중 / ARGV[1]=멤버, ARGV[2]=재시도 시각(ms)
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[2], ARGV[1]) == 1 then
+              redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 발송 예약
+     * @return 새로 예약됐으면 true (이미 대기/처리 중이면 합쳐져 false)
+     */
+    public boolean enqueue(NotificationType type, Long eventId, UUID actorUserId, Instant sendAt) {
+        String member = member(type, eventId);
+        Long added = redisTemplate.execute(
+                ENQUEUE_SCRIPT,
+                List.of(PENDING_KEY, PROCESSING_KEY, JOB_KEY_PREFIX + member),
+                member,
+                String.valueOf(sendAt.toEpochMilli()),
+                actorUserId == null ? "" : actorUserId.toString(),
+                String.valueOf(JOB_TTL.toSeconds())
+        );
+        return Long.valueOf(1L).equals(added);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Job> claim(int limit, Duration lease) {
+        long now = System.currentTimeMillis();
+        List<String> members = (List<String>) redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(PENDING_KEY, PROCESSING_KEY),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(now + lease.toMillis())
+        );
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<Job> jobs = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                int sep = member.indexOf(':');
+                jobs.add(new Job(member,
+                        NotificationType.valueOf(member.substring(0, sep)),
+                        Long.valueOf(member.substring(sep + 1))));
+            } catch (RuntimeException e) {
+                log.warn("[event-notification] invalid queue member dropped. member={}", member);
+                complete(member, Instant.now());
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * 실행 시작 기록
+     * - runs 가 1보다 크면 이전 실행이 중단된 재개 → 호출 측이 firstClaimedAt 이후 알림과 중복 확인
+     */
+    public RunState start(Job job) {
+        String jobKey = JOB_KEY_PREFIX + job.member();
+        long runs = redisTemplate.opsForHash().increment(jobKey, "runs", 1);
+        redisTemplate.opsForHash().putIfAbsent(jobKey, "firstClaimedAt", String.valueOf(System.currentTimeMillis()));
+        redisTemplate.expire(jobKey, JOB_TTL);
+
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(jobKey);
+        String actor = (String) hash.get("actor");
+        return new RunState(
+                runs,
+                actor == null || actor.isEmpty() ? null : UUID.fromString(actor),
+                Instant.ofEpochMilli(Long.parseLong((String) hash.get("firstClaimedAt")))
+        );
+    }
+
+    /**
+     * 처리 완료 (성공 또는 포기)
+     * @param nextSendAt 처리 중 추가 요청이 있었을 때 다시 발송할 시각
+     */
+    public void complete(String member, Instant nextSendAt) {
+        redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(PENDING_KEY, PROCESSING_KEY, JOB_KEY_PREFIX + member),
+                member,
+                String.valueOf(nextSendAt.toEpochMilli())
+        );
+    }
+
+    /**
+     * 실행기 포화 등으로 시작하지 못한 작업을 대기 큐로 되돌림
+     */
+    public void release(String member, Instant retryAt) {
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(PENDING_KEY, PROCESSING_KEY),
+                member,
+                String.valueOf(retryAt.toEpochMilli())
+        );
+    }
+
+    private static String member(NotificationType type, Long eventId) {
+        return type.name() + ":" + eventId;
+    }
+
+    public record Job(String member, NotificationType type, Long eventId) {
+    }
+
+    public record RunState(long runs, UUID actorUserId, Instant firstClaimedAt) {
+        public boolean resumed() {
+            return runs > 1;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.common.utill.TokenBucket;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.MulticastMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * FCM 멀티캐스트 병렬 발송기
+ * - 발송 한 건(Session) 안에서 최대 concurrency 개 배치를 동시에 전송
+ * - 모든 발송이 하나의 토큰 버킷(초당 메시지 수)을 공유 → FCM 쿼터 초과 방지
+ * - submit 은 동시 배치가 가득 차면 대기 → 호출 측은 토큰을 스트리밍으로 넘겨도 메모리 일정
+ */
+@Slf4j
+@Component
+public class FcmMulticastSender {
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final TaskExecutor sendExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.push.fcm.concurrency:8}")
+    private int concurrency;
+
+    @Value("${app.push.fcm.max-messages-per-second:5000}")
+    private int maxMessagesPerSecond;
+
+    private TokenBucket rateLimiter;
+    private Timer batchTimer;
+
+    public FcmMulticastSender(FirebaseMessaging firebaseMessaging,
+                              @Qualifier("fcmSendExecutor") TaskExecutor sendExecutor,
+                              MeterRegistry meterRegistry) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.sendExecutor = sendExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        rateLimiter = new TokenBucket(maxMessagesPerSecond, maxMessagesPerSecond);
+        batchTimer = meterRegistry.timer("push.fcm.multicast");
+    }
+
+    public Session open(Function<List<String>, MulticastMessage> messageFactory, BatchHandler handler) {
+        return new Session(messageFactory, handler);
+    }
+
+    /**
+     * 배치 결과 처리 (발송 스레드에서 호출됨 → 구현은 스레드 안전해야 함)
+     */
+    public interface BatchHandler {
+        // @return 비활성화된 토큰 수
+        int onResponse(List<String> batch, BatchResponse response);
+
+        void onError(List<String> batch, Exception e);
+    }
+
+    public record Summary(int tokens, int success, int failure, int disabled) {
+    }
+
+    public final class Session {
+
+        private final Function<List<String>, MulticastMessage> messageFactory;
+        private final BatchHandler handler;
+        private final Semaphore inFlight = new Semaphore(concurrency);
+
+        private final AtomicInteger tokens = new AtomicInteger();
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger failure = new AtomicInteger();
+        private final AtomicInteger disabled = new AtomicInteger();
+
+        private Session(Function<List<String>, MulticastMessage> messageFactory, BatchHandler handler) {
+            this.messageFactory = messageFactory;
+            this.handler = handler;
+        }
+
+        /**
+         * 배치 하나 제출 (동시 배치 수가 가득 차면 자리가 날 때까지 대기)
+         */
+        public void submit(List<String> batch) {
+            if (batch == null || batch.isEmpty()) return;
+
+            inFlight.acquireUninterruptibly();
+            try {
+                sendExecutor.execute(() -> {
+                    try {
+                        send(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                handler.onError(batch, e);
+            }
+        }
+
+        /**
+         * 제출한 배치가 모두 끝날 때까지 대기
+         */
+        public Summary await() {
+            inFlight.acquireUninterruptibly(concurrency);
+            inFlight.release(concurrency);
+            return new Summary(tokens.get(), success.get(), failure.get(), disabled.get());
+        }
+
+        private void send(List<String> batch) {
+            tokens.addAndGet(batch.size());
+            try {
+                rateLimiter.acquire(batch.size());
+
+                BatchResponse resp = batchTimer.recordCallable(() ->
+                        firebaseMessaging.sendEachForMulticast(messageFactory.apply(batch)));
+
+                success.addAndGet(resp.getSuccessCount());
+                failure.addAndGet(resp.getFailureCount());
+                if (resp.getFailureCount() > 0) {
+                    disabled.addAndGet(handler.onResponse(batch, resp));
+                }
+
+                log.debug("[push] multicast batch done size={} success={} fail={}",
+                        batch.size(), resp.getSuccessCount(), resp.getFailureCount());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.addAndGet(batch.size());
+                handler.onError(batch, e);
+            } catch (Exception e) {
+                failure.addAndGet(batch.size());
+                handler.onError(batch, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 인앱 알림 대량 INSERT (JDBC multi-row)
+ * - IDENTITY 전략이라 Hibernate 배치 INSERT 가 불가 → INSERT ... VALUES (...), (...) 로 직접 작성
+ * - 호출 측 트랜잭션에 참여 (JdbcTemplate 은 현재 트랜잭션의 커넥션 사용)
+ * - 값 바인딩은 Hibernate 매핑과 동일: UUID → BINARY(16)(big-endian), Instant → UTC TIMESTAMP
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBulkWriter {
+
+    public static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO notification
+                (user_id, type, title, content, target_id, is_read, created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, false, ?, ?)";
+    private static final Calendar UTC = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return INSERT 된 행 수
+     */
+    public int insert(List<UUID> userIds,
+                      NotificationType type,
+                      String title,
+                      String content,
+                      Long targetId) {
+        if (userIds == null || userIds.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int inserted = 0;
+
+        for (int from = 0; from < userIds.size(); from += ROWS_PER_STATEMENT) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, userIds.size()));
+            inserted += jdbcTemplate.update(sql(chunk.size()), ps -> {
+                int i = 1;
+                for (UUID userId : chunk) {
+                    ps.setBytes(i++, toBytes(userId));
+                    ps.setString(i++, type.name());
+                    ps.setString(i++, title);
+                    ps.setString(i++, content);
+                    ps.setObject(i++, targetId);
+                    ps.setTimestamp(i++, now, (Calendar) UTC.clone());
+                    ps.setTimestamp(i++, now, (Calendar) UTC.clone());
+                }
+            });
+        }
+        return inserted;
+    }
+
+    /**
+     * (type, targetId) 알림을 이미 받은 유저 (재시작 후 재개 시 중복 INSERT 방지용)
+     */
+    public Set<UUID> findAlreadyNotified(List<UUID> userIds, NotificationType type, Long targetId) {
+        if (userIds == null || userIds.isEmpty()) return Set.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds.size() + 2);
+        args.add(type.name());
+        args.add(targetId);
+        userIds.forEach(id -> args.add(toBytes(id)));
+
+        Set<UUID> result = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT user_id FROM notification WHERE type = ? AND target_id = ? AND user_id IN (" + placeholders + ")",
+                rs -> {
+                    result.add(fromBytes(rs.getBytes(1)));
+                },
+                args.toArray()
+        );
+        return result;
+    }
+
+    /**
+     * since 이후 (type, targetId) 알림을 받은 유저 (같은 대상에 반복 발송되는 종류의 재개용)
+     */
+    public Set<UUID> findAlreadyNotifiedSince(List<UUID> userIds, NotificationType type, Long targetId, Instant since) {
+        if (userIds == null || userIds.isEmpty()) return Set.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds.size() + 3);
+        args.add(type.name());
+        args.add(targetId);
+        args.add(Timestamp.from(since));
+        userIds.forEach(id -> args.add(toBytes(id)));
+
+        Set<UUID> result = new HashSet<>();
+        jdbcTemplate.query(
+                con -> {
+                    var ps = con.prepareStatement("SELECT user_id FROM notification"
+                            + " WHERE type = ? AND target_id = ? AND created_at >= ? AND user_id IN (" + placeholders + ")");
+                    for (int i = 0; i < args.size(); i++) {
+                        if (args.get(i) instanceof Timestamp ts) {
+                            ps.setTimestamp(i + 1, ts, (Calendar) UTC.clone());
+                        } else {
+                            ps.setObject(i + 1, args.get(i));
+                        }
+                    }
+                    return ps;
+                },
+                rs -> {
+                    result.add(fromBytes(rs.getBytes(1)));
+                }
+        );
+        return result;
+    }
+
+    private static String sql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,273 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.event.NotificationFanOutRequestedEvent;
+import com.dearwith.dearwith_backend.notification.event.NotificationUnreadChangedEvent;
+import com.dearwith.dearwith_backend.notification.event.PushNotificationEvent;
+import com.dearwith.dearwith_backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 유저 대상 인앱 알림 팬아웃
+ * - 유저 id 를 keyset 으로 CHUNK 단위 조회 → multi-row INSERT → 청크마다 별도 트랜잭션
+ * - 진행 상태(커서, 누적 건수)를 Redis hash 에 저장 → 재시작/장애 후 마지막 커서부터 재개
+ * - 작업별 분산 락으로 여러 노드가 같은 작업을 동시에 진행하지 않음
+ * - 푸시는 청크 트랜잭션에서 아웃박스에 적재 (알림 설정 허용 유저만)
+ */
+@Slf4j
+@Service
+public class NotificationFanOutService {
+
+    private static final String JOB_KEY_PREFIX = "notification:fanout:job:";
+    private static final String LOCK_KEY_PREFIX = "notification:fanout:lock:";
+    private static final String RUNNING_KEY = "notification:fanout:running";
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+    private static final Duration FINISHED_JOB_TTL = Duration.ofDays(1);
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final UserRepository userRepository;
+    private final NotificationBulkWriter bulkWriter;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor fanOutExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private Counter insertedCounter;
+    private Timer chunkTimer;
+
+    public NotificationFanOutService(UserRepository userRepository,
+                                     NotificationBulkWriter bulkWriter,
+                                     StringRedisTemplate redisTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Qualifier("notificationFanOutExecutor") TaskExecutor fanOutExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.bulkWriter = bulkWriter;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fanOutExecutor = fanOutExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("notification.fanout.active", activeJobs, AtomicInteger::get)
+                .register(meterRegistry);
+        insertedCounter = meterRegistry.counter("notification.fanout.inserted");
+        chunkTimer = meterRegistry.timer("notification.fanout.chunk");
+    }
+
+    /*──────────────────────────────────────────────
+     | 작업 등록 (요청 트랜잭션 커밋 이후)
+     *──────────────────────────────────────────────*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFanOutRequested(NotificationFanOutRequestedEvent event) {
+        String jobKey = JOB_KEY_PREFIX + event.jobId();
+
+        Map<String, String> job = new HashMap<>();
+        job.put("type", event.type().name());
+        job.put("title", event.title());
+        job.put("targetId", String.valueOf(event.targetId()));
+        if (event.content() != null) job.put("content", event.content());
+        if (event.sendPush()) {
+            job.put("pushTitle", event.pushTitle());
+            job.put("pushBody", event.pushBody() == null ? "" : event.pushBody());
+            job.put("url", event.url());
+        }
+        job.put("cursor", MIN_UUID.toString());
+        job.put("inserted", "0");
+        job.put("status", "RUNNING");
+        job.put("updatedAt", Instant.now().toString());
+
+        // 이미 등록된 작업이면 진행 상태를 덮어쓰지 않음
+        Boolean created = redisTemplate.opsForHash().putIfAbsent(jobKey, "status", "RUNNING");
+        if (Boolean.TRUE.equals(created)) {
+            redisTemplate.opsForHash().putAll(jobKey, job);
+            redisTemplate.opsForSet().add(RUNNING_KEY, event.jobId());
+        }
+
+        submit(event.jobId());
+    }
+
+    /**
+     * 중단된 작업 재개 (다른 노드가 진행 중이면 락 획득 실패로 건너뜀)
+     */
+    @Scheduled(
+            initialDelayString = "${app.notification.fanout.resume-interval-ms:60000}",
+            fixedDelayString = "${app.notification.fanout.resume-interval-ms:60000}"
+    )
+    public void resumeStalled() {
+        try {
+            Set<String> jobIds = redisTemplate.opsForSet().members(RUNNING_KEY);
+            if (jobIds == null) return;
+            jobIds.forEach(this::submit);
+        } catch (Exception e) {
+            log.warn("[notification-fanout] resume scan failed", e);
+        }
+    }
+
+    private void submit(String jobId) {
+        try {
+            fanOutExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            log.warn("[notification-fanout] executor busy, will retry later. jobId={}", jobId);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 작업 실행
+     *──────────────────────────────────────────────*/
+    void run(String jobId) {
+        String jobKey = JOB_KEY_PREFIX + jobId;
+        String lockKey = LOCK_KEY_PREFIX + jobId;
+
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, nodeId, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        activeJobs.incrementAndGet();
+        try {
+            Map<Object, Object> job = redisTemplate.opsForHash().entries(jobKey);
+            if (job.isEmpty() || !"RUNNING".equals(job.get("status"))) {
+                redisTemplate.opsForSet().remove(RUNNING_KEY, jobId);
+                return;
+            }
+
+            NotificationType type = NotificationType.valueOf((String) job.get("type"));
+            String title = (String) job.get("title");
+            String content = (String) job.get("content");
+            Long targetId = Long.valueOf((String) job.get("targetId"));
+            String pushTitle = (String) job.get("pushTitle");
+            String pushBody = (String) job.get("pushBody");
+            String url = (String) job.get("url");
+
+            UUID cursor = UUID.fromString((String) job.get("cursor"));
+            long inserted = Long.parseLong((String) job.get("inserted"));
+            // 첫 실행이 아니면 이전 실행의 마지막 청크가 커서 저장 전에 커밋됐을 수 있으므로 중복 확인
+            // (커서가 MIN_UUID 인 상태에서 중단된 경우 포함)
+            Long runs = redisTemplate.opsForHash().increment(jobKey, "runs", 1);
+            boolean checkDuplicates = runs == null || runs > 1;
+
+            log.info("[notification-fanout] start. jobId={}, cursor={}, inserted={}", jobId, cursor, inserted);
+
+            while (true) {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                UUID from = cursor;
+                boolean dedupe = checkDuplicates;
+
+                ChunkResult chunk = transactionTemplate.execute(status ->
+                        processChunk(jobId, from, dedupe, type, title, content, targetId, pushTitle, pushBody, url));
+                sample.stop(chunkTimer);
+
+                if (chunk == null) break;
+
+                cursor = chunk.lastUserId();
+                inserted += chunk.inserted();
+                checkDuplicates = false;
+                insertedCounter.increment(chunk.inserted());
+
+                redisTemplate.opsForHash().putAll(jobKey, Map.of(
+                        "cursor", cursor.toString(),
+                        "inserted", String.valueOf(inserted),
+                        "updatedAt", Instant.now().toString()
+                ));
+                redisTemplate.expire(lockKey, LOCK_TTL);
+            }
+
+            redisTemplate.opsForHash().putAll(jobKey, Map.of(
+                    "status", "DONE",
+                    "updatedAt", Instant.now().toString()
+            ));
+            redisTemplate.expire(jobKey, FINISHED_JOB_TTL);
+            redisTemplate.opsForSet().remove(RUNNING_KEY, jobId);
+
+            log.info("[notification-fanout] done. jobId={}, inserted={}", jobId, inserted);
+        } catch (Exception e) {
+            // 상태는 마지막 커밋된 청크 기준으로 남아 있으므로 resumeStalled 가 이어서 진행
+            log.error("[notification-fanout] failed, will resume. jobId={}", jobId, e);
+        } finally {
+            activeJobs.decrementAndGet();
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    private ChunkResult processChunk(String jobId,
+                                     UUID from,
+                                     boolean dedupe,
+                                     NotificationType type,
+                                     String title,
+                                     String content,
+                                     Long targetId,
+                                     String pushTitle,
+                                     String pushBody,
+                                     String url) {
+        List<UserRepository.NotificationTargetRow> rows =
+                userRepository.findLoginAllowedTargetsAfter(from, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) return null;
+
+        List<UUID> userIds = rows.stream().map(UserRepository.NotificationTargetRow::getId).toList();
+        UUID last = userIds.get(userIds.size() - 1);
+
+        if (dedupe) {
+            Set<UUID> already = bulkWriter.findAlreadyNotified(userIds, type, targetId);
+            if (!already.isEmpty()) {
+                rows = rows.stream().filter(r -> !already.contains(r.getId())).toList();
+                userIds = rows.stream().map(UserRepository.NotificationTargetRow::getId).toList();
+            }
+        }
+        if (userIds.isEmpty()) return new ChunkResult(last, 0);
+
+        int inserted = bulkWriter.insert(userIds, type, title, content, targetId);
+
+        // 안 읽은 알림 카운터(커밋 이후) / 푸시 아웃박스(같은 트랜잭션)
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.increment(userIds));
+        if (pushTitle != null) {
+            List<UUID> pushTargets = rows.stream()
+                    .filter(r -> type == NotificationType.SYSTEM
+                            ? Boolean.TRUE.equals(r.getServiceNotificationEnabled())
+                            : Boolean.TRUE.equals(r.getEventNotificationEnabled()))
+                    .map(UserRepository.NotificationTargetRow::getId)
+                    .toList();
+            if (!pushTargets.isEmpty()) {
+                // 같은 청크를 재처리해도 아웃박스에는 한 번만 적재
+                eventPublisher.publishEvent(new PushNotificationEvent(
+                        type, pushTargets, pushTitle, pushBody, url, "fanout:" + jobId + ":" + last));
+            }
+        }
+
+        return new ChunkResult(last, inserted);
+    }
+
+    private record ChunkResult(UUID lastUserId, int inserted) {
+    }
+}
@@ -1,19 +1,24 @@
 package com.dearwith.dearwith_backend.notification.service;
 
 import com.dearwith.dearwith_backend.common.config.DearwithProperties;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
 import com.dearwith.dearwith_backend.common.dto.ImageGroupDto;
 import com.dearwith.dearwith_backend.common.dto.ImageVariantDto;
 import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
+import com.dearwith.dearwith_backend.common.utill.CursorCodec;
 import com.dearwith.dearwith_backend.event.assembler.EventInfoAssembler;
 import com.dearwith.dearwith_backend.event.entity.Event;
 import com.dearwith.dearwith_backend.event.entity.EventNotice;
 import com.dearwith.dearwith_backend.event.repository.EventNoticeRepository;
 import com.dearwith.dearwith_backend.event.repository.EventRepository;
+import com.dearwith.dearwith_backend.notification.dto.NotificationBulkResponseDto;
 import com.dearwith.dearwith_backend.notification.dto.NotificationResponseDto;
 import com.dearwith.dearwith_backend.notification.dto.UnreadExistsResponseDto;
 import com.dearwith.dearwith_backend.notification.entity.Notification;
 import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.event.NotificationFanOutRequestedEvent;
+import com.dearwith.dearwith_backend.notification.event.NotificationUnreadChangedEvent;
 import com.dearwith.dearwith_backend.notification.event.PushNotificationEvent;
 import com.dearwith.dearwith_backend.notification.repository.NotificationRepository;
 import com.dearwith.dearwith_backend.user.entity.User;
@@ -21,9 +26,13 @@ import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.*;
@@ -41,10 +50,20 @@ public class NotificationService {
     private final PushNotificationService pushNotificationService;
     private final DearwithProperties dearwithProperties;
     private final ApplicationEventPublisher eventPublisher;
+    private final NotificationUnreadCounter unreadCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBulkWriter bulkWriter;
 
     private static final String SYSTEM_ICON_URL =
             "https://d2xzrz4ksgmdkm.cloudfront.net/inline/common/icon.png";
 
+    // 커서 조회: 최대 페이지 크기 / 첫 페이지용 정렬 키 경계값
+    private static final int MAX_CURSOR_SIZE = 50;
+    private static final Instant MAX_CREATED_AT = Instant.parse("9999-12-31T00:00:00Z");
+
+    // 전체 읽음/삭제: id 구간 크기 (구간마다 별도 트랜잭션)
+    private static final int BULK_CHUNK_SIZE = 1_000;
+
     /* ================================================================
        1) 안 읽은 알림 존재 여부
      ================================================================ */
@@ -56,7 +75,8 @@ public class NotificationService {
 
         userReader.getLoginAllowedUser(userId);
 
-        long count = notificationRepository.countByUserIdAndReadFalse(userId);
+        // Redis 카운터 (없을 때만 DB COUNT)
+        long count = unreadCounter.get(userId);
         return new UnreadExistsResponseDto(count > 0, count);
     }
 
@@ -77,7 +97,46 @@ public class NotificationService {
                 ? notificationRepository.findByUserIdAndReadFalse(userId, pageable)
                 : notificationRepository.findByUserId(userId, pageable);
 
-        List<Notification> list = page.getContent();
+        return new PageImpl<>(toDtos(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /* ================================================================
+       2-1) 알림 목록 커서 조회 (무한 스크롤)
+          - (createdAt, id) 내림차순, OFFSET/COUNT 없음
+     ================================================================ */
+    @Transactional(readOnly = true)
+    public CursorSliceDto<NotificationResponseDto> getNotificationsByCursor(UUID userId,
+                                                                            boolean onlyUnread,
+                                                                            String cursor,
+                                                                            int size) {
+        userReader.getLoginAllowedUser(userId);
+
+        InboxCursor c = (cursor == null || cursor.isBlank())
+                ? new InboxCursor(MAX_CREATED_AT, Long.MAX_VALUE)
+                : CursorCodec.decode(cursor, 2, p -> new InboxCursor(Instant.parse(p[0]), Long.parseLong(p[1])));
+
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_SIZE)));
+        Slice<Notification> slice = onlyUnread
+                ? notificationRepository.findUnreadInboxSlice(userId, c.createdAt(), c.id(), pageable)
+                : notificationRepository.findInboxSlice(userId, c.createdAt(), c.id(), pageable);
+
+        List<Notification> list = slice.getContent();
+        String next = null;
+        if (slice.hasNext()) {
+            Notification last = list.get(list.size() - 1);
+            next = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorSliceDto<>(toDtos(list), next, slice.hasNext());
+    }
+
+    private record InboxCursor(Instant createdAt, Long id) {
+    }
+
+    // 목록 DTO 변환 (공지/이벤트 일괄 조회)
+    private List<NotificationResponseDto> toDtos(List<Notification> list) {
+        if (list.isEmpty()) {
+            return List.of();
+        }
 
         // 1) EVENT_NOTICE_CREATED → noticeId 모으기
         List<Long> noticeIds = list.stream()
@@ -113,7 +172,9 @@ public class NotificationService {
                 : eventRepository.findByIdIn(allEventIds).stream()
                 .collect(Collectors.toMap(Event::getId, e -> e));
 
-        return page.map(n -> toDto(n, eventMap, noticeToEventIdMap));
+        return list.stream()
+                .map(n -> toDto(n, eventMap, noticeToEventIdMap))
+                .toList();
     }
 
     /* ================================================================
@@ -132,22 +193,23 @@ public class NotificationService {
         if (!n.isRead()) {
             n.setRead(true);
             n.setReadAt(Instant.now());
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.decrement(userId));
         }
     }
 
     /* ================================================================
        4) 전체 읽음 처리
+          - 엔티티 로딩 없이 id 구간별 UPDATE (구간마다 짧은 트랜잭션)
      ================================================================ */
-    @Transactional
-    public void markAllAsRead(UUID userId) {
+    public NotificationBulkResponseDto markAllAsRead(UUID userId) {
         userReader.getLoginAllowedUser(userId);
-        List<Notification> list = notificationRepository.findByUserIdAndReadFalse(userId);
         Instant now = Instant.now();
 
-        for (Notification n : list) {
-            n.setRead(true);
-            n.setReadAt(now);
-        }
+        long affected = processInChunks(userId, (fromId, toId) ->
+                notificationRepository.bulkMarkReadInRange(userId, fromId, toId, now));
+
+        unreadCounter.evict(userId);
+        return new NotificationBulkResponseDto(affected);
     }
 
     /* ================================================================
@@ -164,19 +226,64 @@ public class NotificationService {
                 ));
 
         notificationRepository.delete(n);
+        if (!n.isRead()) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.decrement(userId));
+        }
     }
 
     /* ================================================================
        6) 전체 삭제
+          - 엔티티 로딩 없이 id 구간별 DELETE (구간마다 짧은 트랜잭션)
+          - 읽은 알림만 삭제하면 안 읽은 수는 그대로
      ================================================================ */
-    @Transactional
-    public void deleteAll(UUID userId, boolean onlyRead) {
+    public NotificationBulkResponseDto deleteAll(UUID userId, boolean onlyRead) {
         userReader.getLoginAllowedUser(userId);
-        if (onlyRead) {
-            notificationRepository.deleteByUserIdAndReadTrue(userId);
-        } else {
-            notificationRepository.deleteByUserId(userId);
+
+        long affected = processInChunks(userId, (fromId, toId) ->
+                notificationRepository.bulkDeleteInRange(userId, fromId, toId, onlyRead));
+
+        if (!onlyRead) {
+            unreadCounter.evict(userId);
         }
+        return new NotificationBulkResponseDto(affected);
+    }
+
+    /**
+     * 유저 알림을 id 구간(BULK_CHUNK_SIZE) 단위로 나눠 처리
+     * - 상한은 시작 시점의 max(id) 로 고정
+     * - 구간마다 별도 트랜잭션 → 락 유지 시간과 메모리 사용량이 전체 알림 수와 무관
+     */
+    private long processInChunks(UUID userId, RangeOperation operation) {
+        Long maxId = notificationRepository.findMaxIdByUserId(userId);
+        if (maxId == null) return 0L;
+
+        long affected = 0L;
+        long fromId = 0L;
+        while (fromId < maxId) {
+            long from = fromId;
+            ChunkResult chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = notificationRepository.findIdsInRange(
+                        userId, from, maxId, PageRequest.of(0, BULK_CHUNK_SIZE));
+                if (ids.isEmpty()) return null;
+
+                Long to = ids.get(ids.size() - 1);
+                return new ChunkResult(to, operation.apply(from, to));
+            });
+            if (chunk == null) break;
+
+            affected += chunk.affected();
+            fromId = chunk.toId();
+        }
+        return affected;
+    }
+
+    @FunctionalInterface
+    private interface RangeOperation {
+        // (fromId, toId] 구간 처리 후 영향받은 행 수
+        int apply(Long fromId, Long toId);
+    }
+
+    private record ChunkResult(Long toId, int affected) {
     }
 
     /* ================================================================
@@ -199,19 +306,8 @@ public class NotificationService {
         String inAppTitle = eventTitle;
         String inAppContent = noticeTitle;
 
-        List<Notification> notifications = targetUserIds.stream()
-                .map(uid -> Notification.builder()
-                        .userId(uid)
-                        .type(NotificationType.EVENT_NOTICE_CREATED)
-                        .title(inAppTitle)
-                        .content(inAppContent)
-                        .targetId(noticeId)
-                        .read(false)
-                        .build()
-                )
-                .toList();
-
-        notificationRepository.saveAll(notifications);
+        bulkWriter.insert(targetUserIds, NotificationType.EVENT_NOTICE_CREATED, inAppTitle, inAppContent, noticeId);
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.increment(targetUserIds));
 
         // 2) 푸시 알림: 이벤트 알림 허용한 유저만 필터링
         if (sendPush) {
@@ -226,6 +322,7 @@ public class NotificationService {
 
             if (!pushTargets.isEmpty()) {
                 eventPublisher.publishEvent(new PushNotificationEvent(
+                        NotificationType.EVENT_NOTICE_CREATED,
                         pushTargets, pushTitle, pushBody, url
                 ));
             }
@@ -269,19 +366,8 @@ public class NotificationService {
         }
 
         // 1) 인앱 알림: 대상 유저 전체에게 항상 생성
-        List<Notification> notifications = targetUserIds.stream()
-                .map(uid -> Notification.builder()
-                        .userId(uid)
-                        .type(NotificationType.SYSTEM)
-                        .title(title)
-                        .content(content)   // 상세 내용
-                        .targetId(systemNoticeId)
-                        .read(false)
-                        .build()
-                )
-                .toList();
-
-        notificationRepository.saveAll(notifications);
+        bulkWriter.insert(targetUserIds, NotificationType.SYSTEM, title, content, systemNoticeId);
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.increment(targetUserIds));
 
         // 2) 푸시 알림: 서비스 알림 허용한 유저만 필터링
         if (sendPush) {
@@ -296,6 +382,7 @@ public class NotificationService {
 
             if (!pushTargets.isEmpty()) {
                 eventPublisher.publishEvent(new PushNotificationEvent(
+                        NotificationType.SYSTEM,
                         pushTargets, pushTitle, pushBody, url
                 ));
             }
@@ -306,6 +393,7 @@ public class NotificationService {
      *   전체 유저(로그인 가능한 계정)에게 시스템 공지 발송
      *    - 인앱: 전체 로그인 가능 유저
      *    - 푸시: 그 중 serviceNotificationEnabled = true 인 유저만
+     *    - 유저 전체를 메모리에 올리지 않고 커밋 이후 팬아웃 작업으로 청크 단위 처리 (NotificationFanOutService)
      */
     @Transactional
     public void sendSystemNoticeToAllUsers(
@@ -314,15 +402,18 @@ public class NotificationService {
             String content,
             boolean sendPush
     ) {
-        // 전체 인앱 대상: 로그인 가능한 유저 전체
-        List<User> loginAllowedUsers = userReader.getAllLoginAllowedUsers();
-
-        List<UUID> inAppTargets = loginAllowedUsers.stream()
-                .map(User::getId)
-                .toList();
-
-        // 위에 만든 공통 메서드 재사용 (여기서도 push 필터링은 안에서 처리)
-        sendSystemNoticeToUsers(inAppTargets, systemNoticeId, title, content, sendPush);
+        String url = buildFullUrl(NotificationType.SYSTEM, systemNoticeId);
+
+        eventPublisher.publishEvent(new NotificationFanOutRequestedEvent(
+                "SYSTEM:" + systemNoticeId,
+                NotificationType.SYSTEM,
+                title,
+                content,
+                systemNoticeId,
+                sendPush ? "[디어위드] " + title : null,
+                sendPush ? content : null,
+                sendPush ? url : null
+        ));
     }
 
 
@@ -391,7 +482,7 @@ public class NotificationService {
        - ARTIST_EVENT_CREATED → /events/{eventId}
        - SYSTEM               → /system-notices/{id}
      ================================================================ */
-    private String buildFullUrl(NotificationType type, Long targetId) {
+    String buildFullUrl(NotificationType type, Long targetId) {
         String base = dearwithProperties.getBaseUrl();
 
         if (targetId == null) {
@@ -0,0 +1,171 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.event.NotificationUnreadChangedEvent;
+import com.dearwith.dearwith_backend.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유저별 안 읽은 알림 수 카운터 (Redis string: notification:unread:{userId}, TTL)
+ * - 배지 조회는 GET 1회, 값이 없을 때만 DB COUNT 후 채움
+ * - 생성/읽음/삭제는 커밋 이후 증감 (키가 있을 때만, 0 미만 방지)
+ * - 전체 읽음/전체 삭제처럼 일괄 변경은 키를 지워 다음 조회 때 다시 계산
+ * - 채우기 경합: 카운터가 없을 때의 증감/삭제는 버전 키(notification:unread-ver:{userId})를 올림
+ *   → COUNT 전에 읽은 버전이 바뀌었으면 채우지 않음 (COUNT 와 증감이 엇갈려 틀린 값이 남지 않도록)
+ * - 그래도 남을 수 있는 오차는 TTL 로 한정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String VERSION_KEY_PREFIX = "notification:unread-ver:";
+    private static final int PIPELINE_CHUNK_SIZE = 1_000;
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=카운터, KEYS[2]=버전, ARGV[1]=증감값, ARGV[2]=TTL(s)
+     | 카운터가 없으면 버전만 올림 (다음 조회 때 DB 기준으로 채움)
+     *──────────────────────────────────────────────*/
+    private static final String ADJUST_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('INCR', KEYS[2])
+              redis.call('EXPIRE', KEYS[2], ARGV[2])
+              return -1
+            end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then
+              redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+              return 0
+            end
+            return v
+            """;
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=카운터, KEYS[2]=버전, ARGV[1]=TTL(s)
+     *──────────────────────────────────────────────*/
+    private static final String EVICT_SCRIPT = """
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """;
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=카운터, KEYS[2]=버전, ARGV[1]=COUNT 전 버전, ARGV[2]=값, ARGV[3]=TTL(s)
+     | COUNT 이후 증감/삭제가 있었으면 채우지 않음
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local ver = redis.call('GET', KEYS[2]) or '0'
+            if ver ~= ARGV[1] then return 0 end
+            if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.unread.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    public long get(UUID userId) {
+        String key = KEY_PREFIX + userId;
+        String versionKey = VERSION_KEY_PREFIX + userId;
+        String version;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKey));
+            String cached = values == null ? null : values.get(0);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            version = values == null || values.get(1) == null ? "0" : values.get(1);
+        } catch (Exception e) {
+            log.warn("[notification] unread counter read failed. userId={}", userId, e);
+            return notificationRepository.countByUserIdAndReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUserIdAndReadFalse(userId);
+        try {
+            redisTemplate.execute(FILL_SCRIPT, List.of(key, versionKey),
+                    version, String.valueOf(count), String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("[notification] unread counter fill failed. userId={}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 카운터 제거 → 다음 조회 때 DB 기준으로 다시 계산 (트랜잭션 밖 일괄 처리 이후 호출)
+     */
+    public void evict(UUID userId) {
+        evictQuietly(List.of(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadChanged(NotificationUnreadChangedEvent event) {
+        List<UUID> userIds = event.userIds();
+        if (userIds == null || userIds.isEmpty()) return;
+
+        try {
+            for (int from = 0; from < userIds.size(); from += PIPELINE_CHUNK_SIZE) {
+                List<UUID> chunk = userIds.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, userIds.size()));
+                if (event.recount()) {
+                    evictAll(chunk);
+                } else {
+                    adjust(chunk, event.delta());
+                }
+            }
+        } catch (Exception e) {
+            // 실패 시 카운터를 비워 다음 조회 때 DB 기준으로 복구
+            log.warn("[notification] unread counter update failed. users={}", userIds.size(), e);
+            evictQuietly(userIds);
+        }
+    }
+
+    private void adjust(List<UUID> userIds, long delta) {
+        String d = String.valueOf(delta);
+        String ttl = String.valueOf(ttlSeconds);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                conn.eval(ADJUST_SCRIPT, ReturnType.INTEGER, 2,
+                        KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId, d, ttl);
+            }
+            return null;
+        });
+    }
+
+    private void evictAll(List<UUID> userIds) {
+        String ttl = String.valueOf(ttlSeconds);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                conn.eval(EVICT_SCRIPT, ReturnType.INTEGER, 2,
+                        KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId, ttl);
+            }
+            return null;
+        });
+    }
+
+    private void evictQuietly(List<UUID> userIds) {
+        try {
+            for (int from = 0; from < userIds.size(); from += PIPELINE_CHUNK_SIZE) {
+                evictAll(userIds.subList(from, Math.min(from + PIPELINE_CHUNK_SIZE, userIds.size())));
+            }
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -5,44 +5,68 @@ import com.dearwith.dearwith_backend.logging.constant.BusinessAction;
 import com.dearwith.dearwith_backend.logging.constant.TargetType;
 import com.dearwith.dearwith_backend.logging.enums.BusinessLogCategory;
 import com.dearwith.dearwith_backend.notification.dto.FailureDecision;
+import com.dearwith.dearwith_backend.notification.dto.PushMessage;
 import com.dearwith.dearwith_backend.notification.dto.PushRetryJob;
 import com.dearwith.dearwith_backend.notification.repository.PushDeviceRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.firebase.messaging.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Semaphore;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PushNotificationService {
 
-    private final FirebaseMessaging firebaseMessaging;
+    private final FcmMulticastSender multicastSender;
     private final PushDeviceRepository pushDeviceRepository;
     private final BusinessLogService businessLogService;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final PushRetryQueue retryQueue;
+    private final ThreadPoolTaskExecutor pushRetryExecutor;
+
+    @Value("${app.push.retry.concurrency:4}")
+    private int retryConcurrency;
+
+    @Value("${app.push.retry.claim-batch-size:50}")
+    private int retryClaimBatchSize;
+
+    @Value("${app.push.retry.lease-seconds:300}")
+    private long retryLeaseSeconds;
+
+    private TransactionTemplate readOnlyTx;
+    private Semaphore retryPermits;
 
     private static final int DEVICE_ACTIVE_DAYS = 90;
     private static final int MULTICAST_MAX = 500;
+    private static final int FAILURE_LOG_SAMPLE = 10;
+    private static final int USER_CHUNK_SIZE = 1_000;
     private static final int RETRY_MAX_ATTEMPT = 3;
-    private static final String RETRY_ZSET_KEY = "push:retry:zset";
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(Objects.requireNonNull(transactionTemplate.getTransactionManager()));
+        readOnlyTx.setReadOnly(true);
+        retryPermits = new Semaphore(retryConcurrency);
+    }
 
     /**
      * 단일 토큰에 푸시 전송
      */
     public void sendToToken(String token, String title, String body, String url) {
         if (token == null || token.isBlank()) return;
-        sendToTokens(List.of(token), title, body, url);
+        sendToTokens(List.of(token), PushMessage.of(title, body, url), 1);
     }
 
     /**
@@ -55,20 +79,48 @@ public class PushNotificationService {
 
         List<String> tokens = pushDeviceRepository.findActiveTokensByUserId(userId, expireThreshold);
 
-        sendToTokens(tokens, title, body, url);
+        sendToTokens(tokens, PushMessage.of(title, body, url), 1);
     }
 
     /**
      * 여러 유저의 모든 활성 기기에 푸시 전송
      */
     public void sendToUsers(List<UUID> userIds, String title, String body, String url) {
+        sendToUsers(userIds, PushMessage.of(title, body, url));
+    }
+
+    /**
+     * 여러 유저의 모든 활성 기기에 푸시 전송 (아웃박스 발송용, pushId / collapseKey 포함)
+     */
+    public void sendToUsers(List<UUID> userIds, PushMessage message) {
         if (userIds == null || userIds.isEmpty()) return;
 
         Instant expireThreshold = Instant.now().minus(Duration.ofDays(DEVICE_ACTIVE_DAYS));
 
-        List<String> tokens = pushDeviceRepository.findActiveTokensByUserIds(userIds, expireThreshold);
+        // 유저 id 를 USER_CHUNK_SIZE 씩 나눠 청크별로 토큰 목록 조회 → 500개가 모이는 대로 발송기에 제출
+        // - 청크 결과는 통째로 List 로 받음 (스트리밍 아님) → 메모리는 청크 하나의 토큰 + 진행 중 배치로 제한
+        // - 조회 트랜잭션은 청크마다 짧게 닫고, FCM 전송 중에는 커넥션을 잡지 않음
+        FcmMulticastSender.Session session = openSession(message, 1);
+        List<String> pending = new ArrayList<>(MULTICAST_MAX);
+
+        for (List<UUID> userChunk : chunk(userIds, USER_CHUNK_SIZE)) {
+            List<String> chunkTokens = readOnlyTx.execute(status ->
+                    pushDeviceRepository.findActiveTokensByUserIds(userChunk, expireThreshold));
+            if (chunkTokens == null) continue;
+
+            for (String token : chunkTokens) {
+                pending.add(token);
+                if (pending.size() == MULTICAST_MAX) {
+                    session.submit(pending);
+                    pending = new ArrayList<>(MULTICAST_MAX);
+                }
+            }
+        }
+        session.submit(pending);
 
-        sendToTokens(tokens, title, body, url);
+        FcmMulticastSender.Summary summary = session.await();
+        log.info("[push] multicast summary users={} totalTokens={} success={} fail={} disabled={}",
+                userIds.size(), summary.tokens(), summary.success(), summary.failure(), summary.disabled());
     }
 
     // ============================================================
@@ -77,77 +129,82 @@ public class PushNotificationService {
 
     /**
      * 토큰 목록에 대한 배치 전송 (500개 단위로 chunking)
+     * - 배치는 FcmMulticastSender 가 병렬 + 처리율 제한으로 전송
      */
-    private void sendToTokens(List<String> tokens, String title, String body, String url) {
+    /**
+     * @param retryAttempt 실패 토큰을 재시도 큐에 넣을 때의 시도 횟수
+     */
+    private void sendToTokens(List<String> tokens, PushMessage message, int retryAttempt) {
         if (tokens == null || tokens.isEmpty()) return;
 
-        List<List<String>> chunks = chunk(tokens, MULTICAST_MAX);
-
-        int totalSuccess = 0;
-        int totalFailure = 0;
-        int totalDisabled = 0;
-
-        for (List<String> batch : chunks) {
-            try {
-                MulticastMessage message = buildMulticastMessage(batch, title, body, url);
-                BatchResponse resp = firebaseMessaging.sendEachForMulticast(message);
-
-                totalSuccess += resp.getSuccessCount();
-                totalFailure += resp.getFailureCount();
-
-                // 개별 실패 처리 (disable + retry)
-                totalDisabled += handleMulticastFailures(batch, resp, title, body, url);
-
-                log.info("[push] multicast batch done size={} success={} fail={}",
-                        batch.size(), resp.getSuccessCount(), resp.getFailureCount());
-
-            } catch (Exception e) {
-                // 배치 전체 실패 → 재시도 큐로
-                businessLogService.error(
-                        BusinessLogCategory.PUSH,
-                        BusinessAction.Push.PUSH_SEND_FAILED,
-                        null,
-                        TargetType.SYSTEM,
-                        null,
-                        "푸시 배치 발송 실패 (multicast 예외)",
-                        Map.of(
-                                "batchSize", String.valueOf(batch.size()),
-                                "title", safe(title),
-                                "body", safe(body),
-                                "url", safe(url)
-                        ),
-                        e
-                );
-
-                // 배치 전체를 재시도 큐에 추가
-                enqueueRetry(batch, title, body, url, 1);
-            }
+        FcmMulticastSender.Session session = openSession(message, retryAttempt);
+        for (List<String> batch : chunk(tokens, MULTICAST_MAX)) {
+            session.submit(batch);
         }
+        FcmMulticastSender.Summary summary = session.await();
 
         log.info("[push] multicast summary totalTokens={} success={} fail={} disabled={}",
-                tokens.size(), totalSuccess, totalFailure, totalDisabled);
+                summary.tokens(), summary.success(), summary.failure(), summary.disabled());
+    }
+
+    private FcmMulticastSender.Session openSession(PushMessage message, int retryAttempt) {
+        return multicastSender.open(
+                batch -> buildMulticastMessage(batch, message),
+                new FcmMulticastSender.BatchHandler() {
+                    @Override
+                    public int onResponse(List<String> batch, BatchResponse response) {
+                        // 개별 실패 처리 (disable + retry)
+                        return handleMulticastFailures(batch, response, message, retryAttempt);
+                    }
+
+                    @Override
+                    public void onError(List<String> batch, Exception e) {
+                        // 배치 전체 실패 → 재시도 큐로
+                        businessLogService.error(
+                                BusinessLogCategory.PUSH,
+                                BusinessAction.Push.PUSH_SEND_FAILED,
+                                null,
+                                TargetType.SYSTEM,
+                                null,
+                                "푸시 배치 발송 실패 (multicast 예외)",
+                                Map.of(
+                                        "batchSize", String.valueOf(batch.size()),
+                                        "title", safe(message.title()),
+                                        "body", safe(message.body()),
+                                        "url", safe(message.url())
+                                ),
+                                e
+                        );
+
+                        // 배치 전체를 재시도 큐에 추가
+                        enqueueRetry(batch, message, retryAttempt);
+                    }
+                }
+        );
     }
 
     /**
      * Multicast 응답에서 개별 실패 처리
-     * - 영구 실패: 토큰 disable
+     * - 영구 실패: 토큰 disable (사유별 UPDATE 한 번)
      * - 일시 실패: 재시도 큐에 추가
      * - 무시: 로깅만
+     * - 배치당 실패 요약 로그 1건 (토큰마다 INSERT 하지 않음)
      *
      * @return 비활성화된 토큰 수
      */
     private int handleMulticastFailures(
             List<String> tokens,
             BatchResponse resp,
-            String title,
-            String body,
-            String url
+            PushMessage message,
+            int retryAttempt
     ) {
-        Instant now = Instant.now();
         List<SendResponse> responses = resp.getResponses();
 
-        int disabledCount = 0;
+        Map<String, List<String>> disableByReason = new HashMap<>();
+        Map<String, Integer> reasonCounts = new TreeMap<>();
         List<String> retryTokens = new ArrayList<>();
+        List<String> sampleTokenPrefixes = new ArrayList<>();
+        Exception firstException = null;
 
         for (int i = 0; i < responses.size(); i++) {
             SendResponse r = responses.get(i);
@@ -155,41 +212,20 @@ public class PushNotificationService {
 
             String token = tokens.get(i);
             Exception ex = r.getException();
+            if (firstException == null) firstException = ex;
 
             // 실패 분류: disable / retry / ignore
             FailureDecision decision = classifyFailure(ex);
 
-            // 공통 로깅
-            businessLogService.error(
-                    BusinessLogCategory.PUSH,
-                    BusinessAction.Push.PUSH_SEND_FAILED,
-                    null,
-                    TargetType.SYSTEM,
-                    null,
-                    "푸시 발송 실패 (multicast 개별 실패)",
-                    Map.of(
-                            "tokenPrefix", tokenPrefix(token),
-                            "shouldDisable", String.valueOf(decision.shouldDisable()),
-                            "disableReason", safe(decision.disableReason()),
-                            "shouldRetry", String.valueOf(decision.shouldRetry()),
-                            "retryReason", safe(decision.retryReason()),
-                            "title", safe(title),
-                            "body", safe(body),
-                            "url", safe(url)
-                    ),
-                    ex
-            );
+            String reason = decision.shouldDisable() ? decision.disableReason() : decision.retryReason();
+            reasonCounts.merge(safe(reason), 1, Integer::sum);
+            if (sampleTokenPrefixes.size() < FAILURE_LOG_SAMPLE) {
+                sampleTokenPrefixes.add(tokenPrefix(token));
+            }
 
-            // 영구 실패 → disable
+            // 영구 실패 → disable 대상
             if (decision.shouldDisable()) {
-                int affected = pushDeviceRepository.disableAllByFcmToken(
-                        token, now, decision.disableReason()
-                );
-                if (affected > 0) {
-                    disabledCount += affected;
-                    log.info("[push] token disabled. reason={} affected={} tokenPrefix={}",
-                            decision.disableReason(), affected, tokenPrefix(token));
-                }
+                disableByReason.computeIfAbsent(decision.disableReason(), k -> new ArrayList<>()).add(token);
                 continue;
             }
 
@@ -200,9 +236,43 @@ public class PushNotificationService {
             // shouldRetry=false, shouldDisable=false인 경우는 로깅만 하고 무시
         }
 
+        // 영구 실패 토큰 일괄 비활성화 (사유 종류만큼만 UPDATE)
+        Instant now = Instant.now();
+        int disabledCount = 0;
+        for (Map.Entry<String, List<String>> entry : disableByReason.entrySet()) {
+            int affected = pushDeviceRepository.disableAllByFcmTokens(entry.getValue(), now, entry.getKey());
+            disabledCount += affected;
+            if (affected > 0) {
+                log.info("[push] tokens disabled. reason={} tokens={} affected={}",
+                        entry.getKey(), entry.getValue().size(), affected);
+            }
+        }
+
+        // 배치 실패 요약 로그
+        businessLogService.error(
+                BusinessLogCategory.PUSH,
+                BusinessAction.Push.PUSH_SEND_FAILED,
+                null,
+                TargetType.SYSTEM,
+                null,
+                "푸시 발송 실패 (multicast 개별 실패)",
+                Map.of(
+                        "batchSize", String.valueOf(tokens.size()),
+                        "failureCount", String.valueOf(resp.getFailureCount()),
+                        "reasons", reasonCounts,
+                        "disabled", String.valueOf(disabledCount),
+                        "retry", String.valueOf(retryTokens.size()),
+                        "sampleTokenPrefixes", sampleTokenPrefixes,
+                        "title", safe(message.title()),
+                        "body", safe(message.body()),
+                        "url", safe(message.url())
+                ),
+                firstException
+        );
+
         // 일시 실패 토큰들을 재시도 큐로
         if (!retryTokens.isEmpty()) {
-            enqueueRetry(retryTokens, title, body, url, 1);
+            enqueueRetry(retryTokens, message, retryAttempt);
             log.info("[push] enqueued retry tokens={}", retryTokens.size());
         }
 
@@ -252,16 +322,12 @@ public class PushNotificationService {
      * - 지수 백오프: 2^attempt 분 (최대 30분)
      *
      * @param tokens 재시도할 토큰 목록
-     * @param title 푸시 제목
-     * @param body 푸시 본문
-     * @param url 딥링크 URL
+     * @param message 푸시 내용
      * @param attempt 현재 시도 횟수
      */
     private void enqueueRetry(
             List<String> tokens,
-            String title,
-            String body,
-            String url,
+            PushMessage message,
             int attempt
     ) {
         if (attempt > RETRY_MAX_ATTEMPT) {
@@ -278,8 +344,8 @@ public class PushNotificationService {
                     Map.of(
                             "attempt", String.valueOf(attempt),
                             "tokens", String.valueOf(tokens.size()),
-                            "title", safe(title),
-                            "url", safe(url)
+                            "title", safe(message.title()),
+                            "url", safe(message.url())
                     )
             );
             return;
@@ -288,14 +354,14 @@ public class PushNotificationService {
         if (tokens == null || tokens.isEmpty()) return;
 
         try {
-            PushRetryJob job = new PushRetryJob(tokens, safe(title), safe(body), safe(url), attempt);
-            String payload = objectMapper.writeValueAsString(job);
+            PushRetryJob job = new PushRetryJob(
+                    tokens, safe(message.title()), safe(message.body()), safe(message.url()),
+                    attempt, message.collapseKey()
+            );
 
             // 지수 백오프: 2^attempt 분 (최대 30분)
             long delayMinutes = Math.min((long) Math.pow(2, attempt), 30);
-            long runAtEpochMs = Instant.now().plus(Duration.ofMinutes(delayMinutes)).toEpochMilli();
-
-            redisTemplate.opsForZSet().add(RETRY_ZSET_KEY, payload, runAtEpochMs);
+            retryQueue.enqueue(job, Instant.now().plus(Duration.ofMinutes(delayMinutes)));
 
             log.info("[push] enqueued retry. attempt={} tokens={} delayMinutes={}",
                     attempt, tokens.size(), delayMinutes);
@@ -321,62 +387,76 @@ public class PushNotificationService {
 
     /**
      * 재시도 큐 처리 (스케줄러)
-     * - 10초마다 실행
-     * - 실행 시간이 된 작업을 최대 10개까지 처리
+     * - 실행 시각이 된 작업을 Lua 로 원자 선점 (선점 만료 전까지 다른 인스턴스는 가져가지 않음)
+     * - 전용 실행기에서 최대 retry.concurrency 개 작업을 동시에 처리, 여유가 있는 동안 계속 선점
+     * - 작업이 끝나면 ack → 발송 중 인스턴스가 죽으면 선점 만료 후 다시 처리 (at-least-once)
      */
-    @Scheduled(fixedDelay = 10000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${app.push.retry.poll-interval-ms:1000}", scheduler = "pushScheduler")
     public void processRetryQueue() {
-        long now = Instant.now().toEpochMilli();
+        try {
+            while (true) {
+                int free = retryPermits.availablePermits();
+                if (free <= 0) return;
+
+                int limit = Math.min(retryClaimBatchSize, free);
+                List<PushRetryQueue.ClaimedJob> claimed =
+                        retryQueue.claim(limit, Duration.ofSeconds(retryLeaseSeconds));
+                if (claimed.isEmpty()) return;
+
+                log.info("[push] processing retry queue size={}", claimed.size());
+
+                for (PushRetryQueue.ClaimedJob claimedJob : claimed) {
+                    retryPermits.acquireUninterruptibly();
+                    try {
+                        pushRetryExecutor.execute(() -> processRetryJob(claimedJob));
+                    } catch (RuntimeException e) {
+                        // 제출 실패 → ack 하지 않음 (선점 만료 후 다시 처리)
+                        retryPermits.release();
+                        throw e;
+                    }
+                }
 
-        // 실행 시간이 된 작업 10개만 조회
-        Set<String> duePayloads = redisTemplate.opsForZSet()
-                .rangeByScore(RETRY_ZSET_KEY, 0, now, 0, 10);
+                if (claimed.size() < limit) return;
+            }
+        } catch (Exception e) {
+            log.warn("[push] processRetryQueue poll failed", e);
+        }
+    }
 
-        if (duePayloads == null || duePayloads.isEmpty()) return;
+    private void processRetryJob(PushRetryQueue.ClaimedJob claimedJob) {
+        PushRetryJob job = claimedJob.job();
+        try {
+            log.info("[push] retry attempt={} tokens={}", job.attempt(), job.tokens().size());
 
-        log.info("[push] processing retry queue size={}", duePayloads.size());
+            // 재시도는 다시 sendToTokens로
+            // - 성공하면 완료
+            // - 실패하면 attempt+1 로 새 작업을 큐잉
+            PushMessage message = new PushMessage(job.title(), job.body(), job.url(), null, job.collapseKey());
+            sendToTokens(job.tokens(), message, job.attempt() + 1);
 
-        for (String payload : duePayloads) {
-            // 큐에서 제거
-            redisTemplate.opsForZSet().remove(RETRY_ZSET_KEY, payload);
+        } catch (Exception e) {
+            log.error("[push] processRetryQueue failed. jobId={}", claimedJob.jobId(), e);
 
+            businessLogService.error(
+                    BusinessLogCategory.PUSH,
+                    BusinessAction.Push.PUSH_SEND_FAILED,
+                    null,
+                    TargetType.SYSTEM,
+                    null,
+                    "푸시 재시도 큐 처리 실패",
+                    Map.of(
+                            "attempt", String.valueOf(job.attempt()),
+                            "tokens", String.valueOf(job.tokens().size())
+                    ),
+                    e
+            );
+        } finally {
             try {
-                PushRetryJob job = objectMapper.readValue(payload, PushRetryJob.class);
-
-                log.info("[push] retry attempt={} tokens={}", job.attempt(), job.tokens().size());
-
-                // 재시도는 다시 sendToTokens로
-                // - 성공하면 완료
-                // - 실패하면 handleMulticastFailures에서 attempt+1로 다시 큐잉
-                sendToTokens(job.tokens(), job.title(), job.body(), job.url());
-
-            } catch (JsonProcessingException e) {
-                log.error("[push] processRetryQueue deserialization failed for payload={}", payload, e);
-
-                businessLogService.error(
-                        BusinessLogCategory.PUSH,
-                        BusinessAction.Push.PUSH_SEND_FAILED,
-                        null,
-                        TargetType.SYSTEM,
-                        null,
-                        "푸시 재시도 큐 처리 실패 (역직렬화 오류)",
-                        Map.of("payloadLength", String.valueOf(payload.length())),
-                        e
-                );
+                retryQueue.ack(claimedJob.jobId());
             } catch (Exception e) {
-                log.error("[push] processRetryQueue failed for payload={}", payload, e);
-
-                businessLogService.error(
-                        BusinessLogCategory.PUSH,
-                        BusinessAction.Push.PUSH_SEND_FAILED,
-                        null,
-                        TargetType.SYSTEM,
-                        null,
-                        "푸시 재시도 큐 처리 실패",
-                        Map.of("payloadLength", String.valueOf(payload.length())),
-                        e
-                );
+                log.warn("[push] retry ack failed. jobId={}", claimedJob.jobId(), e);
+            } finally {
+                retryPermits.release();
             }
         }
     }
@@ -387,26 +467,40 @@ public class PushNotificationService {
 
     /**
      * MulticastMessage 생성
+     * - collapseKey 가 있으면 플랫폼별 collapse 설정 (단말에 같은 종류 알림이 쌓이지 않도록)
      */
-    private MulticastMessage buildMulticastMessage(
-            List<String> tokens,
-            String title,
-            String body,
-            String url
-    ) {
+    private MulticastMessage buildMulticastMessage(List<String> tokens, PushMessage message) {
         Map<String, String> data = new HashMap<>();
-        data.put("title", safe(title));
-        data.put("body", safe(body));
-        data.put("url", safe(url));
+        data.put("title", safe(message.title()));
+        data.put("body", safe(message.body()));
+        data.put("url", safe(message.url()));
+        if (message.pushId() != null) {
+            data.put("pushId", message.pushId());
+        }
 
-        return MulticastMessage.builder()
+        MulticastMessage.Builder builder = MulticastMessage.builder()
                 .addAllTokens(tokens)
                 .setNotification(Notification.builder()
-                        .setTitle(safe(title))
-                        .setBody(safe(body))
+                        .setTitle(safe(message.title()))
+                        .setBody(safe(message.body()))
                         .build())
-                .putAllData(data)
-                .build();
+                .putAllData(data);
+
+        String collapseKey = message.collapseKey();
+        if (collapseKey != null && !collapseKey.isBlank()) {
+            builder.setAndroidConfig(AndroidConfig.builder()
+                            .setCollapseKey(collapseKey)
+                            .build())
+                    .setApnsConfig(ApnsConfig.builder()
+                            .putHeader("apns-collapse-id", collapseKey)
+                            .setAps(Aps.builder().setThreadId(collapseKey).build())
+                            .build())
+                    .setWebpushConfig(WebpushConfig.builder()
+                            .putHeader("Topic", collapseKey)
+                            .build());
+        }
+
+        return builder.build();
     }
 
     /**
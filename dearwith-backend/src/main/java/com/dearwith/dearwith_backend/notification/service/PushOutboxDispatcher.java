@@ -0,0 +1,347 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.dto.PushMessage;
+import com.dearwith.dearwith_backend.notification.entity.PushOutbox;
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus;
+import com.dearwith.dearwith_backend.notification.repository.PushOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+
+/**
+ * push_outbox 디스패처
+ * - 주기적으로 발송할 행을 FOR UPDATE SKIP LOCKED 로 선점 → PROCESSING + lockedUntil 기록 후 커밋
+ * - 전용 실행기에서 동시에 최대 concurrency 건만 발송 (FCM 처리량을 여기서 제어)
+ * - 발송 완료 시 SENT, 실패 시 지수 백오프로 PENDING 복귀, max-attempts 초과 시 FAILED
+ * - 발송 중 인스턴스가 죽으면 lockedUntil 이후 다시 선점 → at-least-once (단말은 pushId 로 중복 제거)
+ * - type 이 있는 소규모 발송은 유저 × 종류 단위로 묶어 한 번만 발송 (요약 푸시에만 collapse key 적용)
+ */
+@Slf4j
+@Component
+public class PushOutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration SENT_KEEP = Duration.ofDays(1);
+    private static final Duration FAILED_KEEP = Duration.ofDays(30);
+    private static final int CLEANUP_CHUNK = 1_000;
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushNotificationService pushNotificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor dispatchExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.push.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.push.outbox.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.push.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.push.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.push.coalesce.window-ms:3000}")
+    private long coalesceWindowMs;
+
+    @Value("${app.push.coalesce.max-recipients:5000}")
+    private int coalesceMaxRecipients;
+
+    private Semaphore permits;
+    private Counter sentCounter;
+    private Counter failedCounter;
+
+    public PushOutboxDispatcher(PushOutboxRepository pushOutboxRepository,
+                                PushNotificationService pushNotificationService,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("pushDispatchExecutor") TaskExecutor dispatchExecutor,
+                                MeterRegistry meterRegistry) {
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushNotificationService = pushNotificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.dispatchExecutor = dispatchExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(concurrency);
+        Gauge.builder("push.outbox.inflight", permits, p -> concurrency - p.availablePermits())
+                .register(meterRegistry);
+        sentCounter = meterRegistry.counter("push.outbox.sent");
+        failedCounter = meterRegistry.counter("push.outbox.failed");
+    }
+
+    /*──────────────────────────────────────────────
+     | 선점 + 발송 위임
+     *──────────────────────────────────────────────*/
+    @Scheduled(fixedDelayString = "${app.push.outbox.poll-interval-ms:1000}", scheduler = "pushScheduler")
+    public void poll() {
+        try {
+            while (true) {
+                // 남은 동시 발송 여유만큼만 선점 (선점 후 대기열에서 lease 가 만료되지 않도록)
+                int free = permits.availablePermits();
+                if (free <= 0) return;
+
+                List<DispatchTask> tasks = claim(Math.min(batchSize, free));
+                if (tasks.isEmpty()) return;
+
+                for (DispatchTask task : tasks) {
+                    permits.acquireUninterruptibly();
+                    try {
+                        dispatchExecutor.execute(() -> dispatch(task));
+                    } catch (RuntimeException e) {
+                        permits.release();
+                        throw e;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 선점됐지만 제출 못한 행은 lease 만료 후 다시 선점됨
+            log.warn("[push-outbox] poll failed", e);
+        }
+    }
+
+    private List<DispatchTask> claim(int limit) {
+        Instant now = Instant.now();
+        List<OutboxMessage> claimed = transactionTemplate.execute(status -> {
+            List<Long> dueIds = pushOutboxRepository.lockDueIds(now, limit);
+            if (dueIds.isEmpty()) return List.<OutboxMessage>of();
+
+            // 묶음 대상 종류는 구간 안의 대기 행까지 함께 선점
+            Set<Long> ids = new LinkedHashSet<>(dueIds);
+            pushOutboxRepository.findAllById(dueIds).stream()
+                    .filter(this::isCoalescable)
+                    .map(PushOutbox::getType)
+                    .distinct()
+                    .forEach(type -> ids.addAll(pushOutboxRepository.lockPendingIdsByType(
+                            type.name(), now.plusMillis(coalesceWindowMs), coalesceMaxRecipients, limit)));
+
+            List<Long> idList = new ArrayList<>(ids);
+            pushOutboxRepository.markProcessing(idList, now.plusSeconds(leaseSeconds), now);
+            return pushOutboxRepository.findAllById(idList).stream()
+                    .sorted(Comparator.comparing(PushOutbox::getId))
+                    .map(o -> OutboxMessage.from(o, isCoalescable(o)))
+                    .toList();
+        });
+        return claimed == null ? List.of() : toTasks(claimed);
+    }
+
+    /*──────────────────────────────────────────────
+     | 유저 × 종류 단위 묶음
+     | - 묶음 대상 행을 종류별로 모아, 유저마다 받을 푸시 수를 계산
+     | - 1건인 유저는 원래 메시지, 2건 이상인 유저는 최신 메시지 + "외 N건" 요약 1건
+     | - 묶인 행들은 한 작업으로 발송/완료 처리
+     *──────────────────────────────────────────────*/
+    List<DispatchTask> toTasks(List<OutboxMessage> messages) {
+        List<DispatchTask> tasks = new ArrayList<>();
+        Map<NotificationType, List<OutboxMessage>> byType = new LinkedHashMap<>();
+
+        for (OutboxMessage m : messages) {
+            if (m.coalescable()) {
+                byType.computeIfAbsent(m.type(), k -> new ArrayList<>()).add(m);
+            } else {
+                tasks.add(DispatchTask.single(m));
+            }
+        }
+
+        for (List<OutboxMessage> group : byType.values()) {
+            if (group.size() == 1) {
+                tasks.add(DispatchTask.single(group.get(0)));
+            } else {
+                tasks.add(coalesce(group));
+            }
+        }
+        return tasks;
+    }
+
+    private DispatchTask coalesce(List<OutboxMessage> group) {
+        // 유저별로 받을 행 (id 오름차순 → 마지막이 최신)
+        Map<UUID, List<OutboxMessage>> byUser = new LinkedHashMap<>();
+        for (OutboxMessage m : group) {
+            for (UUID userId : m.userIds()) {
+                byUser.computeIfAbsent(userId, k -> new ArrayList<>(2)).add(m);
+            }
+        }
+
+        Map<OutboxMessage, List<UUID>> singles = new LinkedHashMap<>();
+        Map<CoalescedKey, List<UUID>> merged = new LinkedHashMap<>();
+        byUser.forEach((userId, received) -> {
+            if (received.size() == 1) {
+                singles.computeIfAbsent(received.get(0), k -> new ArrayList<>()).add(userId);
+            } else {
+                CoalescedKey key = new CoalescedKey(received.get(received.size() - 1), received.size());
+                merged.computeIfAbsent(key, k -> new ArrayList<>()).add(userId);
+            }
+        });
+
+        List<PushSend> sends = new ArrayList<>();
+        singles.forEach((m, userIds) -> sends.add(new PushSend(userIds, m.toPushMessage())));
+        merged.forEach((key, userIds) -> sends.add(new PushSend(userIds, key.toPushMessage())));
+
+        log.info("[push-outbox] coalesced. type={}, rows={}, users={}, mergedUsers={}",
+                group.get(0).type(), group.size(), byUser.size(),
+                merged.values().stream().mapToInt(List::size).sum());
+
+        return new DispatchTask(group, sends);
+    }
+
+    private void dispatch(DispatchTask task) {
+        try {
+            for (PushSend send : task.sends()) {
+                pushNotificationService.sendToUsers(send.userIds(), send.message());
+            }
+            List<Long> ids = task.rows().stream().map(OutboxMessage::id).toList();
+            transactionTemplate.executeWithoutResult(status ->
+                    pushOutboxRepository.markSent(ids, Instant.now()));
+            sentCounter.increment(task.rows().size());
+        } catch (Exception e) {
+            task.rows().forEach(row -> handleFailure(row, e));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void handleFailure(OutboxMessage message, Exception e) {
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        Instant now = Instant.now();
+        try {
+            if (message.attempts() >= maxAttempts) {
+                transactionTemplate.executeWithoutResult(status ->
+                        pushOutboxRepository.markFailed(message.id(), error, now));
+                failedCounter.increment();
+                log.error("[push-outbox] give up. id={}, attempts={}", message.id(), message.attempts(), e);
+                return;
+            }
+
+            Instant next = now.plus(backoff(message.attempts()));
+            transactionTemplate.executeWithoutResult(status ->
+                    pushOutboxRepository.reschedule(message.id(), next, error, now));
+            log.warn("[push-outbox] dispatch failed, rescheduled. id={}, attempts={}, next={}",
+                    message.id(), message.attempts(), next, e);
+        } catch (Exception stateError) {
+            // 상태 기록 실패 → lease 만료 후 재선점
+            log.error("[push-outbox] state update failed. id={}", message.id(), stateError);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 보관 기간 정리
+     *──────────────────────────────────────────────*/
+    @Scheduled(cron = "0 40 4 * * *")
+    public void cleanup() {
+        Instant now = Instant.now();
+        long sent = deleteInChunks(PushOutboxStatus.SENT, now.minus(SENT_KEEP));
+        long failed = deleteInChunks(PushOutboxStatus.FAILED, now.minus(FAILED_KEEP));
+        log.info("[push-outbox] cleanup done. sent={}, failed={}", sent, failed);
+    }
+
+    private long deleteInChunks(PushOutboxStatus status, Instant before) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(tx ->
+                    pushOutboxRepository.deleteFinishedBefore(status.name(), before, CLEANUP_CHUNK));
+            if (deleted == null || deleted == 0) return total;
+            total += deleted;
+        }
+    }
+
+    // ================== 내부 헬퍼 ==================
+
+    private static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(10L << Math.min(attempts, 10));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static String truncate(String s) {
+        return s.length() > 500 ? s.substring(0, 500) : s;
+    }
+
+    private boolean isCoalescable(PushOutbox o) {
+        return o.getType() != null && o.getRecipientCount() <= coalesceMaxRecipients;
+    }
+
+    /*
+     * 요약 푸시의 collapse key (최신 행 기준)
+     * - 종류 단위 고정 키는 iOS 에서 서로 다른 이벤트 알림까지 대체하므로, 같은 요약의 재발송끼리만 대체
+     * - WebPush Topic 길이 제한(32자) 안에 들도록 id 는 36진수
+     */
+    private static String collapseKeyOf(OutboxMessage latest) {
+        return "dw_c" + Long.toString(latest.id(), 36);
+    }
+
+    record OutboxMessage(
+            Long id,
+            String idempotencyKey,
+            NotificationType type,
+            List<UUID> userIds,
+            String title,
+            String body,
+            String url,
+            int attempts,
+            boolean coalescable
+    ) {
+        static OutboxMessage from(PushOutbox o, boolean coalescable) {
+            return new OutboxMessage(
+                    o.getId(), o.getIdempotencyKey(), o.getType(), o.recipientIds(),
+                    o.getTitle(), o.getBody(), o.getUrl(), o.getAttempts(), coalescable
+            );
+        }
+
+        PushMessage toPushMessage() {
+            return new PushMessage(title, body, url, idempotencyKey, null);
+        }
+
+        // 묶음 키로 쓰이므로 id 기준 동등성
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof OutboxMessage other && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+
+    // 같은 최신 행 + 같은 건수 → 같은 요약 메시지
+    private record CoalescedKey(OutboxMessage latest, int count) {
+        PushMessage toPushMessage() {
+            String body = (latest.body() == null || latest.body().isBlank())
+                    ? "새 알림 " + count + "건"
+                    : latest.body() + " 외 " + (count - 1) + "건";
+            return new PushMessage(
+                    latest.title(),
+                    body,
+                    latest.url(),
+                    "coalesced:" + latest.idempotencyKey() + ":" + count,
+                    collapseKeyOf(latest)
+            );
+        }
+    }
+
+    record PushSend(List<UUID> userIds, PushMessage message) {
+    }
+
+    record DispatchTask(List<OutboxMessage> rows, List<PushSend> sends) {
+        static DispatchTask single(OutboxMessage m) {
+            return new DispatchTask(List.of(m), List.of(new PushSend(m.userIds(), m.toPushMessage())));
+        }
+    }
+}
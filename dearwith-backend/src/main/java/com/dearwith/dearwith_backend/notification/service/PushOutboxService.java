@@ -0,0 +1,62 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.entity.PushOutbox;
+import com.dearwith.dearwith_backend.notification.enums.PushOutboxStatus;
+import com.dearwith.dearwith_backend.notification.event.PushNotificationEvent;
+import com.dearwith.dearwith_backend.notification.repository.PushOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PushOutboxService {
+
+    private final PushOutboxRepository pushOutboxRepository;
+
+    @Value("${app.push.coalesce.window-ms:3000}")
+    private long coalesceWindowMs;
+
+    @Value("${app.push.coalesce.max-recipients:5000}")
+    private int coalesceMaxRecipients;
+
+    /**
+     * 푸시 발송 요청을 아웃박스에 적재 (호출 측 트랜잭션에 참여)
+     * - 같은 idempotencyKey 가 이미 있으면 건너뜀
+     */
+    @Transactional
+    public void enqueue(PushNotificationEvent event) {
+        String key = event.idempotencyKey() != null
+                ? event.idempotencyKey()
+                : UUID.randomUUID().toString();
+
+        if (event.idempotencyKey() != null && pushOutboxRepository.existsByIdempotencyKey(key)) {
+            log.info("[push-outbox] duplicate skipped. key={}", key);
+            return;
+        }
+
+        // 묶음 대상이면 구간만큼 늦춰 같은 종류의 후속 푸시와 함께 발송
+        Instant now = Instant.now();
+        boolean coalescable = event.type() != null && event.userIds().size() <= coalesceMaxRecipients;
+        Instant nextAttemptAt = coalescable ? now.plusMillis(coalesceWindowMs) : now;
+
+        pushOutboxRepository.save(PushOutbox.builder()
+                .idempotencyKey(key)
+                .type(event.type())
+                .recipients(PushOutbox.joinRecipients(event.userIds()))
+                .recipientCount(event.userIds().size())
+                .title(event.title() == null ? "" : event.title())
+                .body(event.body())
+                .url(event.url())
+                .status(PushOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+}
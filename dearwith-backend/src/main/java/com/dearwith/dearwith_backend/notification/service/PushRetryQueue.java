@@ -0,0 +1,149 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.dto.PushRetryJob;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 푸시 재시도 지연 큐 (Redis)
+ * - push:retry:zset        : 대기 중 jobId (score = 실행 시각)
+ * - push:retry:processing  : 처리 중 jobId (score = 선점 만료 시각)
+ * - push:retry:job:{jobId} : 작업 본문(JSON) → ZSET 멤버에는 id 만 저장
+ * - claim 은 Lua 로 원자 처리 → 여러 인스턴스가 같은 작업을 가져가지 않음
+ * - 처리 중 인스턴스가 죽으면 선점 만료 후 다음 claim 에서 대기 큐로 되돌림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushRetryQueue {
+
+    private static final String DUE_KEY = "push:retry:zset";
+    private static final String PROCESSING_KEY = "push:retry:processing";
+    private static final String JOB_KEY_PREFIX = "push:retry:job:";
+
+    // 최대 백오프(30분) + 여유 → 큐에서 빠진 본문이 남지 않도록
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+
+    /*──────────────────────────────────────────────
+     | KEYS[1]=대기 ZSET, KEYS[2]=처리 중 ZSET
+     | ARGV[1]=now(ms), ARGV[2]=최대 개수, ARGV[3]=선점 만료 시각(ms)
+     | 1) 선점이 만료된 처리 중 작업을 대기 큐로 복귀
+     | 2) 실행 시각이 된 작업을 꺼내 처리 중 ZSET 으로 이동
+     *──────────────────────────────────────────────*/
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            for _, id in ipairs(expired) do
+              redis.call('ZREM', KEYS[2], id)
+              redis.call('ZADD', KEYS[1], ARGV[1], id)
+            end
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, id in ipairs(due) do
+              redis.call('ZREM', KEYS[1], id)
+              redis.call('ZADD', KEYS[2], ARGV[3], id)
+            end
+            return due
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 작업 등록 (runAt 이후 claim 대상)
+     */
+    public void enqueue(PushRetryJob job, Instant runAt) throws JsonProcessingException {
+        String jobId = UUID.randomUUID().toString();
+        String payload = objectMapper.writeValueAsString(job);
+
+        // 본문 먼저 저장 → 큐에 id 가 보이는 시점에는 항상 본문이 있음
+        redisTemplate.opsForValue().set(JOB_KEY_PREFIX + jobId, payload, JOB_TTL);
+        redisTemplate.opsForZSet().add(DUE_KEY, jobId, runAt.toEpochMilli());
+    }
+
+    /**
+     * 실행 시각이 된 작업을 최대 limit 개 선점
+     * - 본문이 없는 id(만료 등)는 바로 정리
+     */
+    @SuppressWarnings("unchecked")
+    public List<ClaimedJob> claim(int limit, Duration lease) {
+        long now = System.currentTimeMillis();
+        List<String> ids = (List<String>) redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(DUE_KEY, PROCESSING_KEY),
+                String.valueOf(now),
+                String.valueOf(limit),
+                String.valueOf(now + lease.toMillis())
+        );
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<String> payloads = redisTemplate.opsForValue()
+                .multiGet(ids.stream().map(id -> JOB_KEY_PREFIX + id).toList());
+
+        List<ClaimedJob> claimed = new ArrayList<>(ids.size());
+        List<String> orphans = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            String payload = payloads == null ? null : payloads.get(i);
+
+            // 이전 형식: ZSET 멤버 자체가 JSON 본문
+            if (payload == null && id.startsWith("{")) {
+                payload = id;
+            }
+
+            if (payload == null) {
+                orphans.add(id);
+                continue;
+            }
+            try {
+                claimed.add(new ClaimedJob(id, objectMapper.readValue(payload, PushRetryJob.class)));
+            } catch (Exception e) {
+                log.error("[push-retry] deserialization failed. jobId={}, payloadLength={}",
+                        abbreviate(id), payload.length(), e);
+                orphans.add(id);
+            }
+        }
+
+        if (!orphans.isEmpty()) {
+            ack(orphans);
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리 완료 (성공/실패 무관, 다시 재시도할 토큰은 enqueue 로 새 작업이 됨)
+     */
+    public void ack(String jobId) {
+        ack(List.of(jobId));
+    }
+
+    private void ack(List<String> jobIds) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String id : jobIds) {
+                conn.zRem(PROCESSING_KEY, id);
+                conn.del(JOB_KEY_PREFIX + id);
+            }
+            return null;
+        });
+    }
+
+    private static String abbreviate(String id) {
+        return id.length() > 40 ? id.substring(0, 40) : id;
+    }
+
+    public record ClaimedJob(String jobId, PushRetryJob job) {
+    }
+}
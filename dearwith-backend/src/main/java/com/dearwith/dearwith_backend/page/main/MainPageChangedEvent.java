@@ -0,0 +1,10 @@
+package com.dearwith.dearwith_backend.page.main;
+
+/**
+ * 메인페이지 스냅샷에 영향을 주는 데이터(이벤트/리뷰/배너 등)가 바뀌었을 때 발행
+ * - 커밋 이후 MainPageSnapshotService 가 받아서 다음 주기에 스냅샷을 다시 만든다
+ */
+public record MainPageChangedEvent(
+        String source
+) {
+}
@@ -1,7 +1,6 @@
 package com.dearwith.dearwith_backend.page.main;
 
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
-import com.dearwith.dearwith_backend.banner.BannerService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,17 +16,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MainPageController {
     private final MainPageService mainPageService;
-    private final BannerService bannerService;
 
     @Operation(summary = "메인페이지 조회")
     @GetMapping
     public MainPageResponseDto getMainPage(
             @CurrentUser UUID userId
     ) {
-        MainPageResponseDto response;
-        response = mainPageService.getMainPage(userId);
-        response.setBanners(bannerService.getMainBanners());
-
-        return response;
+        return mainPageService.getMainPage(userId);
     }
 }
@@ -0,0 +1,81 @@
+package com.dearwith.dearwith_backend.page.main;
+
+import com.dearwith.dearwith_backend.common.dto.ImageGroupDto;
+import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
+import com.dearwith.dearwith_backend.image.asset.ImageVariantAssembler;
+import com.dearwith.dearwith_backend.image.asset.ImageVariantProfile;
+import com.dearwith.dearwith_backend.image.entity.Image;
+import com.dearwith.dearwith_backend.review.entity.Review;
+import com.dearwith.dearwith_backend.review.entity.ReviewImageMapping;
+import com.dearwith.dearwith_backend.review.enums.ReviewStatus;
+import com.dearwith.dearwith_backend.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class MainPageReviewReader {
+
+    private final ReviewRepository reviewRepository;
+    private final ImageVariantAssembler imageVariantAssembler;
+    private final AssetUrlService assetUrlService;
+
+    /**
+     * 메인페이지 최신 리뷰 6개
+     * - 스냅샷 빌드(스케줄러 스레드)에서도 이미지 Lazy 로딩이 가능하도록 자체 트랜잭션에서 조회
+     */
+    @Transactional(readOnly = true)
+    public List<MainPageReviewDto> getLatestReviews() {
+
+        List<Review> reviews =
+                reviewRepository.findTop6VisibleReviewsWithActiveEvent(ReviewStatus.VISIBLE);
+
+        return reviews.stream()
+                .map(this::toMainPageReviewDtoSafely)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private MainPageReviewDto toMainPageReviewDtoSafely(Review review) {
+
+        if (review.getEvent() == null) {
+            return null;
+        }
+
+        List<ImageGroupDto> images = List.of();
+
+        if (review.getImages() != null && !review.getImages().isEmpty()) {
+            images = review.getImages().stream()
+                    .sorted(Comparator.comparingInt(ReviewImageMapping::getDisplayOrder))
+                    .map(m -> {
+                        Image img = m.getImage();
+
+                        return ImageGroupDto.builder()
+                                .id(img.getId())
+                                .variants(
+                                        imageVariantAssembler.toVariants(
+                                                assetUrlService.generatePublicUrl(img),
+                                                ImageVariantProfile.MAIN_REVIEW_THUMB,
+                                                img.getProcessStatus()
+                                        )
+                                )
+                                .build();
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        return MainPageReviewDto.builder()
+                .reviewId(review.getId())
+                .eventId(review.getEvent().getId())
+                .title(review.getEvent().getTitle())
+                .content(review.getContent())
+                .images(images)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.dearwith.dearwith_backend.page.main;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 메인페이지 섹션 실행기
+ * - parallel.enabled=true  : 섹션별로 전용 풀에서 동시에 실행 (각 섹션은 자기 readOnly 트랜잭션 사용)
+ * - parallel.enabled=false : 호출 스레드에서 순차 실행
+ * - 섹션 타임아웃/예외 시 fallback 값으로 대체 (페이지 전체를 실패시키지 않음)
+ * - 섹션별 소요 시간은 Micrometer 타이머(main.page.section)로 기록 → /actuator/metrics
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainPageSectionRunner {
+
+    private static final String SECTION_TIMER = "main.page.section";
+    private static final String FALLBACK_COUNTER = "main.page.section.fallback";
+
+    private final ThreadPoolTaskExecutor mainPageSectionExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.main-page.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${app.main-page.parallel.section-timeout-ms:1500}")
+    private long sectionTimeoutMs;
+
+    public <T> CompletableFuture<T> submit(String section, Supplier<T> loader, Supplier<T> fallback) {
+        if (!parallelEnabled) {
+            return CompletableFuture.completedFuture(runInline(section, loader, fallback));
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> timed(section, loader), mainPageSectionExecutor);
+        } catch (Exception e) {
+            // 풀 포화(TaskRejected) 시 호출 스레드에서 직접 실행
+            return CompletableFuture.completedFuture(runInline(section, loader, fallback));
+        }
+
+        return future
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> degrade(section, ex, fallback));
+    }
+
+    private <T> T runInline(String section, Supplier<T> loader, Supplier<T> fallback) {
+        try {
+            return timed(section, loader);
+        } catch (Exception e) {
+            return degrade(section, e, fallback);
+        }
+    }
+
+    private <T> T timed(String section, Supplier<T> loader) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder(SECTION_TIMER)
+                    .tag("section", section)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T degrade(String section, Throwable ex, Supplier<T> fallback) {
+        Throwable cause = (ex.getCause() != null) ? ex.getCause() : ex;
+        String reason = (cause instanceof TimeoutException) ? "timeout" : "error";
+
+        meterRegistry.counter(FALLBACK_COUNTER, "section", section, "reason", reason).increment();
+        log.warn("[main-section] degraded. section={} reason={} message={}",
+                section, reason, cause.getMessage());
+
+        return fallback.get();
+    }
+}
@@ -1,18 +1,8 @@
 package com.dearwith.dearwith_backend.page.main;
 
-import com.dearwith.dearwith_backend.artist.dto.MonthlyAnniversaryDto;
-import com.dearwith.dearwith_backend.artist.service.ArtistUnifiedService;
-import com.dearwith.dearwith_backend.common.dto.ImageGroupDto;
 import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
+import com.dearwith.dearwith_backend.event.dto.MainPageUserEventsDto;
 import com.dearwith.dearwith_backend.event.service.EventQueryService;
-import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
-import com.dearwith.dearwith_backend.image.asset.ImageVariantAssembler;
-import com.dearwith.dearwith_backend.image.asset.ImageVariantProfile;
-import com.dearwith.dearwith_backend.image.entity.Image;
-import com.dearwith.dearwith_backend.review.entity.Review;
-import com.dearwith.dearwith_backend.review.entity.ReviewImageMapping;
-import com.dearwith.dearwith_backend.review.enums.ReviewStatus;
-import com.dearwith.dearwith_backend.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,77 +12,119 @@ import java.util.*;
 @RequiredArgsConstructor
 public class MainPageService {
 
+    // 추천 영역 개수 (EventQueryService 개인화/글로벌 추천과 동일)
+    private static final int RECOMMENDED_SIZE = 10;
+
+    private final MainPageSnapshotService mainPageSnapshotService;
     private final EventQueryService eventQueryService;
-    private final ReviewRepository reviewRepository;
-    private final ImageVariantAssembler imageVariantAssembler;
-    private final ArtistUnifiedService artistUnifiedService;
-    private final AssetUrlService assetUrlService;
+
     public MainPageResponseDto getMainPage(UUID userId) {
 
-        List<MonthlyAnniversaryDto> birthdayArtists =
-                artistUnifiedService.getThisMonthArtistAndGroupAnniversaries();
+        MainPageSnapshot snapshot = mainPageSnapshotService.current();
 
-        List<EventInfoDto> recommendedEvents = eventQueryService.getRecommendedEvents(userId);
-        List<EventInfoDto> hotEvents = eventQueryService.getHotEvents(userId);
-        List<EventInfoDto> newEvents = eventQueryService.getNewEvents(userId);
+        // 비로그인: 스냅샷 그대로
+        if (userId == null) {
+            return toResponse(
+                    snapshot,
+                    snapshot.recommendedEvents(),
+                    snapshot.hotEvents(),
+                    snapshot.newEvents()
+            );
+        }
 
-        List<MainPageReviewDto> latestReviews = getLatestReviewsForMainPage();
+        // 1) 스냅샷 이벤트 북마크 여부 + 개인화 추천 후보를 한 번의 쿼리로 조회
+        Set<Long> snapshotIds = new HashSet<>();
+        collectIds(snapshot.recommendedEvents(), snapshotIds);
+        collectIds(snapshot.hotEvents(), snapshotIds);
+        collectIds(snapshot.newEvents(), snapshotIds);
+
+        MainPageUserEventsDto userEvents =
+                eventQueryService.getMainPageUserEvents(userId, snapshotIds, RECOMMENDED_SIZE);
+        Set<Long> bookmarked = userEvents.bookmarkedIds();
+
+        // 2) 개인화 추천 + 부족분은 스냅샷의 글로벌 추천으로 채움
+        //    (북마크한 아티스트/그룹이 없으면 글로벌 추천 그대로)
+        List<EventInfoDto> recommendedEvents = withBookmarked(
+                personalizedRecommended(snapshot, userEvents.personalizedIds()),
+                bookmarked
+        );
+
+        return toResponse(
+                snapshot,
+                recommendedEvents,
+                withBookmarked(snapshot.hotEvents(), bookmarked),
+                withBookmarked(snapshot.newEvents(), bookmarked)
+        );
+    }
 
+    private MainPageResponseDto toResponse(
+            MainPageSnapshot snapshot,
+            List<EventInfoDto> recommendedEvents,
+            List<EventInfoDto> hotEvents,
+            List<EventInfoDto> newEvents
+    ) {
         return MainPageResponseDto.builder()
-                .birthdayArtists(birthdayArtists)
+                .banners(snapshot.banners())
+                .birthdayArtists(snapshot.birthdayArtists())
                 .recommendedEvents(recommendedEvents)
                 .hotEvents(hotEvents)
                 .newEvents(newEvents)
-                .latestReviews(latestReviews)
+                .latestReviews(snapshot.latestReviews())
                 .build();
     }
 
-    private List<MainPageReviewDto> getLatestReviewsForMainPage() {
+    private List<EventInfoDto> personalizedRecommended(MainPageSnapshot snapshot, List<Long> personalizedIds) {
+        if (personalizedIds.isEmpty()) {
+            return snapshot.recommendedEvents();
+        }
 
-        List<Review> reviews =
-                reviewRepository.findTop6VisibleReviewsWithActiveEvent(ReviewStatus.VISIBLE);
+        // 스냅샷에 이미 조립된 이벤트는 재사용, 없는 것만 로딩
+        Map<Long, EventInfoDto> known = new HashMap<>();
+        indexById(snapshot.recommendedEvents(), known);
+        indexById(snapshot.hotEvents(), known);
+        indexById(snapshot.newEvents(), known);
 
-        return reviews.stream()
-                .map(this::toMainPageReviewDtoSafely)
-                .filter(Objects::nonNull)
+        List<Long> missing = personalizedIds.stream()
+                .filter(id -> !known.containsKey(id))
                 .toList();
-    }
+        indexById(eventQueryService.getEventInfosByIds(missing), known);
+
+        List<EventInfoDto> result = new ArrayList<>(RECOMMENDED_SIZE);
+        for (Long id : personalizedIds) {
+            EventInfoDto dto = known.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
 
-    private MainPageReviewDto toMainPageReviewDtoSafely(Review review) {
+        for (EventInfoDto e : snapshot.recommendedEvents()) {
+            if (result.size() >= RECOMMENDED_SIZE) {
+                break;
+            }
+            if (!personalizedIds.contains(e.getId())) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
 
-        if (review.getEvent() == null) {
-            return null;
+    private void indexById(List<EventInfoDto> events, Map<Long, EventInfoDto> out) {
+        for (EventInfoDto e : events) {
+            out.putIfAbsent(e.getId(), e);
         }
+    }
 
-        List<ImageGroupDto> images = List.of();
-
-        if (review.getImages() != null && !review.getImages().isEmpty()) {
-            images = review.getImages().stream()
-                    .sorted(Comparator.comparingInt(ReviewImageMapping::getDisplayOrder))
-                    .map(m -> {
-                        Image img = m.getImage();
-
-                        return ImageGroupDto.builder()
-                                .id(img.getId())
-                                .variants(
-                                        imageVariantAssembler.toVariants(
-                                                assetUrlService.generatePublicUrl(img),
-                                                ImageVariantProfile.MAIN_REVIEW_THUMB,
-                                                img.getProcessStatus()
-                                        )
-                                )
-                                .build();
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
+    private void collectIds(List<EventInfoDto> events, Set<Long> out) {
+        for (EventInfoDto e : events) {
+            out.add(e.getId());
         }
+    }
 
-        return MainPageReviewDto.builder()
-                .reviewId(review.getId())
-                .eventId(review.getEvent().getId())
-                .title(review.getEvent().getTitle())
-                .content(review.getContent())
-                .images(images)
-                .build();
+    private List<EventInfoDto> withBookmarked(List<EventInfoDto> events, Set<Long> bookmarked) {
+        return events.stream()
+                .map(e -> e.toBuilder()
+                        .bookmarked(bookmarked.contains(e.getId()))
+                        .build())
+                .toList();
     }
-}
\ No newline at end of file
+}
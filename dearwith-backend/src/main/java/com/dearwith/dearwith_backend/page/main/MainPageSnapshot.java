@@ -0,0 +1,27 @@
+package com.dearwith.dearwith_backend.page.main;
+
+import com.dearwith.dearwith_backend.artist.dto.MonthlyAnniversaryDto;
+import com.dearwith.dearwith_backend.banner.BannerDto;
+import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 메인페이지 중 모든 유저에게 동일한(비로그인 기준) 영역을 미리 만들어 둔 스냅샷
+ * - version   : 스냅샷 빌드 순번 (빌드할 때마다 1씩 증가)
+ * - changeSeq : 빌드 시작 시점까지 반영된 변경 이벤트 순번
+ * - 유저별 데이터(북마크 여부, 개인화 추천)는 MainPageService 에서 덧씌움
+ */
+public record MainPageSnapshot(
+        long version,
+        long changeSeq,
+        Instant builtAt,
+        List<BannerDto> banners,
+        List<MonthlyAnniversaryDto> birthdayArtists,
+        List<EventInfoDto> recommendedEvents,   // 글로벌 추천 (비로그인/북마크 없는 유저용)
+        List<EventInfoDto> hotEvents,
+        List<EventInfoDto> newEvents,
+        List<MainPageReviewDto> latestReviews
+) {
+}
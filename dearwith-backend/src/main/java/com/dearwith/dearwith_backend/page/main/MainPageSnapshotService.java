@@ -0,0 +1,202 @@
+package com.dearwith.dearwith_backend.page.main;
+
+import com.dearwith.dearwith_backend.artist.dto.MonthlyAnniversaryDto;
+import com.dearwith.dearwith_backend.artist.service.ArtistUnifiedService;
+import com.dearwith.dearwith_backend.banner.BannerDto;
+import com.dearwith.dearwith_backend.banner.BannerService;
+import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
+import com.dearwith.dearwith_backend.event.service.EventQueryService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메인페이지 공용 영역 스냅샷 관리
+ * - 배너 / 이번 달 기념일 / 글로벌 추천 / HOT / 최신 이벤트 / 최신 리뷰를 백그라운드에서 미리 빌드
+ * - 변경 이벤트(MainPageChangedEvent)가 들어오면 다음 체크 주기에 재빌드
+ *   (스냅샷은 노드별 메모리 → 다른 노드에는 Redis pub/sub 으로 전파해 같은 주기에 재빌드)
+ * - 변경이 없어도 max-age 가 지나면 재빌드 (HOT 점수, 날짜 변경, 배너 직접 수정 등 반영)
+ * - 섹션들은 MainPageSectionRunner 로 동시에 조회 → 빌드 시간 ≈ 가장 느린 섹션
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MainPageSnapshotService implements MessageListener {
+
+    public static final String CHANGED_CHANNEL = "main-page:snapshot:changed";
+
+    private final EventQueryService eventQueryService;
+    private final ArtistUnifiedService artistUnifiedService;
+    private final BannerService bannerService;
+    private final MainPageReviewReader mainPageReviewReader;
+    private final MainPageSectionRunner sectionRunner;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.main-page.snapshot.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong changeSeq = new AtomicLong();
+    private final AtomicLong versionSeq = new AtomicLong();
+    private final Object buildLock = new Object();
+
+    private volatile MainPageSnapshot snapshot;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    /**
+     * 현재 스냅샷 반환
+     * - 최초 요청(기동 직후 스냅샷이 없을 때)만 요청 스레드에서 동기 빌드
+     */
+    public MainPageSnapshot current() {
+        MainPageSnapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+
+        synchronized (buildLock) {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 변경 이벤트가 있었거나 max-age 가 지난 경우에만 재빌드
+     */
+    @Scheduled(fixedDelayString = "${app.main-page.snapshot.check-interval-ms:2000}")
+    public void refreshIfStale() {
+        if (!isStale(snapshot)) {
+            return;
+        }
+
+        try {
+            synchronized (buildLock) {
+                if (isStale(snapshot)) {
+                    rebuild();
+                }
+            }
+        } catch (Exception e) {
+            // 실패 시 기존 스냅샷을 그대로 제공하고 다음 주기에 재시도
+            log.warn("[main-snapshot] rebuild failed. keep version={}",
+                    snapshot == null ? null : snapshot.version(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMainPageChanged(MainPageChangedEvent event) {
+        long seq = changeSeq.incrementAndGet();
+        log.debug("[main-snapshot] change received. source={} seq={}", event.source(), seq);
+        publish(event.source());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 2);
+        if (nodeId.equals(parts[0])) return;
+
+        long seq = changeSeq.incrementAndGet();
+        log.debug("[main-snapshot] remote change received. source={} seq={}",
+                parts.length > 1 ? parts[1] : null, seq);
+    }
+
+    private void publish(String source) {
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + "\n" + source);
+        } catch (Exception e) {
+            // 다른 노드는 max-age 경과 후 재빌드
+            log.warn("[main-snapshot] change publish failed. source={}", source, e);
+        }
+    }
+
+    private boolean isStale(MainPageSnapshot s) {
+        if (s == null) {
+            return true;
+        }
+        if (s.changeSeq() < changeSeq.get()) {
+            return true;
+        }
+        return s.builtAt().plus(Duration.ofSeconds(maxAgeSeconds)).isBefore(Instant.now());
+    }
+
+    private void rebuild() {
+        long startedAt = System.nanoTime();
+
+        // 빌드 도중 들어온 변경은 다음 주기에 다시 반영되도록 시작 시점 순번을 기록
+        long seq = changeSeq.get();
+
+        // 섹션 실패/타임아웃 시 직전 스냅샷 값을 유지 (없으면 빈 목록)
+        MainPageSnapshot prev = snapshot;
+
+        CompletableFuture<List<BannerDto>> banners = sectionRunner.submit(
+                "banners",
+                bannerService::getMainBanners,
+                () -> prev == null ? List.of() : prev.banners()
+        );
+        CompletableFuture<List<MonthlyAnniversaryDto>> birthdayArtists = sectionRunner.submit(
+                "anniversaries",
+                artistUnifiedService::getThisMonthArtistAndGroupAnniversaries,
+                () -> prev == null ? List.of() : prev.birthdayArtists()
+        );
+        CompletableFuture<List<EventInfoDto>> recommendedEvents = sectionRunner.submit(
+                "recommended",
+                () -> eventQueryService.getRecommendedEvents(null),
+                () -> prev == null ? List.of() : prev.recommendedEvents()
+        );
+        CompletableFuture<List<EventInfoDto>> hotEvents = sectionRunner.submit(
+                "hot",
+                () -> eventQueryService.getHotEvents(null),
+                () -> prev == null ? List.of() : prev.hotEvents()
+        );
+        CompletableFuture<List<EventInfoDto>> newEvents = sectionRunner.submit(
+                "new",
+                () -> eventQueryService.getNewEvents(null),
+                () -> prev == null ? List.of() : prev.newEvents()
+        );
+        CompletableFuture<List<MainPageReviewDto>> latestReviews = sectionRunner.submit(
+                "reviews",
+                mainPageReviewReader::getLatestReviews,
+                () -> prev == null ? List.of() : prev.latestReviews()
+        );
+
+        MainPageSnapshot built = new MainPageSnapshot(
+                versionSeq.incrementAndGet(),
+                seq,
+                Instant.now(),
+                banners.join(),
+                birthdayArtists.join(),
+                recommendedEvents.join(),
+                hotEvents.join(),
+                newEvents.join(),
+                latestReviews.join()
+        );
+
+        snapshot = built;
+
+        log.info("[main-snapshot] rebuilt. version={} changeSeq={} tookMs={}",
+                built.version(), seq, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -4,6 +4,7 @@ import com.dearwith.dearwith_backend.artist.dto.ArtistUnifiedDto;
 import com.dearwith.dearwith_backend.artist.dto.ArtistUnifiedResponseDto;
 import com.dearwith.dearwith_backend.artist.service.ArtistUnifiedService;
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
+import com.dearwith.dearwith_backend.common.dto.CursorSliceDto;
 import com.dearwith.dearwith_backend.event.dto.EventInfoDto;
 import com.dearwith.dearwith_backend.event.service.EventBookmarkService;
 import com.dearwith.dearwith_backend.event.service.EventQueryService;
@@ -75,6 +76,16 @@ public class MyPageController {
         return eventQueryService.getMyEvents(userId, page, size);
     }
 
+    @Operation(summary = "내가 등록한 이벤트 (커서)", description = "무한 스크롤용. 등록일 최신순, 응답의 nextCursor 를 다음 요청에 전달")
+    @GetMapping("/events/cursor")
+    public CursorSliceDto<EventInfoDto> getMyEventsByCursor(
+            @CurrentUser UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return eventQueryService.getMyEventsCursor(userId, cursor, size);
+    }
+
     @Operation(summary = "내가 등록한 아티스트")
     @GetMapping("/artists")
     public Page<ArtistUnifiedDto> getMyArtists(
@@ -2,6 +2,7 @@ package com.dearwith.dearwith_backend.review.service;
 
 import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
+import com.dearwith.dearwith_backend.page.main.MainPageChangedEvent;
 import com.dearwith.dearwith_backend.review.dto.ReviewReportRequestDto;
 import com.dearwith.dearwith_backend.review.dto.ReviewReportResponseDto;
 import com.dearwith.dearwith_backend.review.entity.Review;
@@ -13,6 +14,7 @@ import com.dearwith.dearwith_backend.review.repository.ReviewRepository;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class ReviewReportService {
     private final ReviewRepository reviewRepository;
     private final ReviewReportRepository reviewReportRepository;
     private final UserReader userReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewReportResponseDto reportReview(Long reviewId, UUID userId, ReviewReportRequestDto req) {
@@ -88,6 +91,10 @@ public class ReviewReportService {
 
         reviewReportRepository.save(report);
 
+        if (autoHidden) {
+            eventPublisher.publishEvent(new MainPageChangedEvent("REVIEW_AUTO_HIDDEN"));
+        }
+
         return new ReviewReportResponseDto(
                 review.getId(),
                 review.getReportCount(),
@@ -13,6 +13,7 @@ import com.dearwith.dearwith_backend.image.asset.ImageVariantProfile;
 import com.dearwith.dearwith_backend.image.dto.ImageAttachmentRequestDto;
 import com.dearwith.dearwith_backend.image.entity.Image;
 import com.dearwith.dearwith_backend.image.repository.ImageRepository;
+import com.dearwith.dearwith_backend.page.main.MainPageChangedEvent;
 import com.dearwith.dearwith_backend.page.my.dto.MyReviewResponseDto;
 import com.dearwith.dearwith_backend.review.dto.*;
 import com.dearwith.dearwith_backend.review.entity.Review;
@@ -24,6 +25,7 @@ import com.dearwith.dearwith_backend.review.repository.ReviewRepository;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -48,6 +50,7 @@ public class ReviewService {
     private final AssetUrlService assetUrlService;
     private final UserReader userReader;
     private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*──────────────────────────────────────────────
      | 1. 리뷰 생성
@@ -92,6 +95,8 @@ public class ReviewService {
 
         // 5) 핫 이벤트 점수 반영
         hotEventService.increaseEventScore(eventId, HotEventService.Action.REVIEW);
+
+        eventPublisher.publishEvent(new MainPageChangedEvent("REVIEW_CREATED"));
     }
 
     /*──────────────────────────────────────────────
@@ -344,6 +349,8 @@ public class ReviewService {
         }
 
         reviewRepository.save(review);
+
+        eventPublisher.publishEvent(new MainPageChangedEvent("REVIEW_UPDATED"));
     }
 
     /*──────────────────────────────────────────────
@@ -372,6 +379,8 @@ public class ReviewService {
         reviewRepository.save(review);
 
         hotEventService.decreaseEventScore(review.getEvent().getId(), HotEventService.Action.REVIEW);
+
+        eventPublisher.publishEvent(new MainPageChangedEvent("REVIEW_DELETED"));
     }
 
     /*──────────────────────────────────────────────
@@ -1,7 +1,11 @@
 package com.dearwith.dearwith_backend.search.controller;
 
 import com.dearwith.dearwith_backend.auth.annotation.CurrentUser;
+import com.dearwith.dearwith_backend.search.dto.PopularSearchDto;
+import com.dearwith.dearwith_backend.search.dto.SearchSuggestionDto;
+import com.dearwith.dearwith_backend.search.service.PopularSearchService;
 import com.dearwith.dearwith_backend.search.service.RecentSearchService;
+import com.dearwith.dearwith_backend.search.service.SearchSuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +20,26 @@ import java.util.UUID;
 public class SearchController {
 
     private final RecentSearchService recentSearchService;
+    private final SearchSuggestService searchSuggestService;
+    private final PopularSearchService popularSearchService;
+
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "이벤트 제목 / 아티스트·그룹 이름 접두 일치 (초성 검색 지원)")
+    public List<SearchSuggestionDto> suggest(
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return searchSuggestService.suggest(query, limit);
+    }
+
+    @GetMapping("/popular")
+    @Operation(summary = "인기 검색어 조회", description = "전체 사용자 검색 기준, 최근 검색일수록 가중치가 큼")
+    public List<PopularSearchDto> popular(
+            @RequestParam(required = false) Integer limit
+    ) {
+        return popularSearchService.getPopular(limit);
+    }
+
     @PostMapping("/recent/add")
     @Operation(summary = "최근 검색어 추가")
     public void add(
@@ -0,0 +1,7 @@
+package com.dearwith.dearwith_backend.search.dto;
+
+public record PopularSearchDto(
+        int rank,
+        String query
+) {
+}
@@ -0,0 +1,10 @@
+package com.dearwith.dearwith_backend.search.dto;
+
+import com.dearwith.dearwith_backend.search.enums.SuggestionType;
+
+public record SearchSuggestionDto(
+        SuggestionType type,
+        Long id,
+        String text
+) {
+}
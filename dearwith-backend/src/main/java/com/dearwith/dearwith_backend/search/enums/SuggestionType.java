@@ -0,0 +1,7 @@
+package com.dearwith.dearwith_backend.search.enums;
+
+public enum SuggestionType {
+    EVENT,
+    ARTIST,
+    GROUP
+}
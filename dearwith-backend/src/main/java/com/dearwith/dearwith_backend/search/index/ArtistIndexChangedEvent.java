@@ -0,0 +1,9 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+
+/**
+ * 아티스트/그룹 생성/수정/삭제 시 발행 → 커밋 이후 이름 색인 갱신
+ */
+public record ArtistIndexChangedEvent(ArtistType type, Long id) {
+}
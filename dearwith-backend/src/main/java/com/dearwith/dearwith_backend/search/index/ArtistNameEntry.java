@@ -0,0 +1,30 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 아티스트/그룹 이름 색인 항목
+ * - 검색 결과를 DB 조회 없이 만들 수 있도록 응답 필드를 함께 보관
+ * - keys: 정규화된 이름들 (한글명/영문명/본명/로마자 표기)
+ */
+public record ArtistNameEntry(
+        ArtistType type,
+        Long id,
+        String nameKr,
+        String imageUrl,
+        LocalDate birthDate,
+        LocalDate debutDate,
+        long bookmarkCount,
+        List<String> keys
+) {
+    public String entryKey() {
+        return entryKey(type, id);
+    }
+
+    public static String entryKey(ArtistType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
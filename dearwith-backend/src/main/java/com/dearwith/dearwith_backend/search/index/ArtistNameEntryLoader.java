@@ -0,0 +1,97 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.artist.entity.Artist;
+import com.dearwith.dearwith_backend.artist.entity.ArtistGroup;
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+import com.dearwith.dearwith_backend.artist.repository.ArtistGroupRepository;
+import com.dearwith.dearwith_backend.artist.repository.ArtistRepository;
+import com.dearwith.dearwith_backend.common.utill.KoreanRomanizer;
+import com.dearwith.dearwith_backend.external.aws.AssetUrlService;
+import com.dearwith.dearwith_backend.search.util.HangulTokenizer;
+import com.dearwith.dearwith_backend.search.util.QueryNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 아티스트/그룹 → 이름 색인 항목 변환
+ */
+@Component
+@RequiredArgsConstructor
+public class ArtistNameEntryLoader {
+
+    private final ArtistRepository artistRepository;
+    private final ArtistGroupRepository artistGroupRepository;
+    private final AssetUrlService assetUrlService;
+    private final QueryNormalizer normalizer;
+
+    /**
+     * 전체 항목 (카탈로그가 작아 한 번에 로딩)
+     */
+    @Transactional(readOnly = true)
+    public List<ArtistNameEntry> loadAll() {
+        List<ArtistNameEntry> entries = new ArrayList<>();
+        artistRepository.findAll().forEach(a -> entries.add(toEntry(a)));
+        artistGroupRepository.findAll().forEach(g -> entries.add(toEntry(g)));
+        return entries;
+    }
+
+    /**
+     * 단건 항목, 삭제되었으면 empty
+     * - 커밋 이후(AFTER_COMMIT) 호출되므로 새 트랜잭션에서 조회
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Optional<ArtistNameEntry> load(ArtistType type, Long id) {
+        return type == ArtistType.GROUP
+                ? artistGroupRepository.findById(id).map(this::toEntry)
+                : artistRepository.findById(id).map(this::toEntry);
+    }
+
+    private ArtistNameEntry toEntry(Artist artist) {
+        return new ArtistNameEntry(
+                ArtistType.ARTIST,
+                artist.getId(),
+                artist.getNameKr(),
+                assetUrlService.generatePublicUrl(artist.getProfileImage()),
+                artist.getBirthDate(),
+                artist.getDebutDate(),
+                artist.getBookmarkCount() == null ? 0L : artist.getBookmarkCount(),
+                keys(artist.getNameKr(), artist.getNameEn(), artist.getRealNameKr(), artist.getRealName())
+        );
+    }
+
+    private ArtistNameEntry toEntry(ArtistGroup group) {
+        return new ArtistNameEntry(
+                ArtistType.GROUP,
+                group.getId(),
+                group.getNameKr(),
+                assetUrlService.generatePublicUrl(group.getProfileImage()),
+                null,
+                group.getDebutDate(),
+                group.getBookmarkCount() == null ? 0L : group.getBookmarkCount(),
+                keys(group.getNameKr(), group.getNameEn())
+        );
+    }
+
+    // 정규화된 이름 + 한글 이름의 로마자 표기 (공백/기호 제거)
+    private List<String> keys(String... names) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String name : names) {
+            String key = normalizer.normalize(name);
+            if (key.isEmpty()) continue;
+            keys.add(key);
+
+            if (HangulTokenizer.containsHangul(key)) {
+                String latin = KoreanRomanizer.toLatin(key);
+                if (latin != null) {
+                    String compact = latin.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+                    if (!compact.isEmpty()) keys.add(compact);
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+}
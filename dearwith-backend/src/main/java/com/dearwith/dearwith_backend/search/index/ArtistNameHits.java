@@ -0,0 +1,9 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import java.util.List;
+
+/**
+ * 이름 색인 검색 결과 (요청 페이지 항목 + 전체 매칭 수)
+ */
+public record ArtistNameHits(List<ArtistNameEntry> entries, long total) {
+}
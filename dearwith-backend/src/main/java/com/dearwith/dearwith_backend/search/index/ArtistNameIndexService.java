@@ -0,0 +1,332 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+import com.dearwith.dearwith_backend.search.util.QueryNormalizer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아티스트/그룹 이름 색인 (메모리)
+ * - 이름 키의 음절 unigram/bigram → 항목 posting 으로 후보를 좁힌 뒤 부분 문자열로 확인
+ *   (1글자 검색어는 unigram, 그 외는 bigram 으로 조회)
+ * - 검색 결과는 색인 항목만으로 구성 (DB 조회 없음), 요청 페이지만 반환
+ * - 생성/수정/삭제는 커밋 이후 해당 항목만 갱신, 다른 노드에는 Redis pub/sub 으로 전파
+ * - 북마크 수 등 부가 정보는 주기적 전체 재색인으로 반영
+ *   (재색인 도중의 증분 변경은 기록해 두었다가 새 색인으로 교체한 뒤 다시 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArtistNameIndexService implements MessageListener {
+
+    public static final String REINDEX_CHANNEL = "search:artist:reindex";
+
+    private static final Comparator<ArtistNameEntry> NAME_ORDER = Comparator
+            .comparing(ArtistNameEntry::nameKr, Comparator.nullsLast(String::compareTo))
+            .thenComparing(ArtistNameEntry::type)
+            .thenComparing(ArtistNameEntry::id);
+
+    private final ArtistNameEntryLoader loader;
+    private final QueryNormalizer normalizer;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, ArtistNameEntry> entries = new HashMap<>();
+    private Map<String, Set<String>> postings = new HashMap<>();
+    private volatile boolean ready = false;
+
+    // 전체 재색인 중 들어온 증분 변경 → 교체 후 다시 반영
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Set<EntryRef> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REINDEX_CHANNEL));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 이름 검색
+     * - 정렬: 완전 일치 → 접두 일치 → 부분 일치, 같은 등급은 한글명 순
+     */
+    public Optional<ArtistNameHits> search(String query, int offset, int limit) {
+        if (!ready) return Optional.empty();
+
+        String q = normalizer.normalize(query);
+        if (q.isEmpty()) return Optional.of(new ArtistNameHits(List.of(), 0));
+
+        List<ArtistNameEntry> matched;
+        lock.readLock().lock();
+        try {
+            matched = new ArrayList<>();
+            for (String key : candidates(q)) {
+                ArtistNameEntry entry = entries.get(key);
+                if (entry != null && matchRank(entry, q) < Integer.MAX_VALUE) {
+                    matched.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(Comparator
+                .comparingInt((ArtistNameEntry e) -> matchRank(e, q))
+                .thenComparing(NAME_ORDER));
+
+        List<ArtistNameEntry> page = matched.stream()
+                .skip(offset)
+                .limit(limit)
+                .toList();
+        return Optional.of(new ArtistNameHits(page, matched.size()));
+    }
+
+    /**
+     * 전체 항목 스냅샷 (자동완성 등 다른 색인 구성용)
+     */
+    public List<ArtistNameEntry> entries() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(entries.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 전체 색인
+     *──────────────────────────────────────────────*/
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.artist.rebuild-interval-ms:1800000}",
+            fixedDelayString = "${app.search.artist.rebuild-interval-ms:1800000}"
+    )
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+
+        try {
+            long start = System.currentTimeMillis();
+
+            Map<String, ArtistNameEntry> nextEntries = new HashMap<>();
+            Map<String, Set<String>> nextPostings = new HashMap<>();
+            for (ArtistNameEntry entry : loader.loadAll()) {
+                addInternal(nextEntries, nextPostings, entry);
+            }
+
+            lock.writeLock().lock();
+            try {
+                entries = nextEntries;
+                postings = nextPostings;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+
+            int replayed = replayChangedDuringRebuild();
+
+            log.info("[search] artist name index rebuilt. entries={}, replayed={}, tookMs={}",
+                    nextEntries.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[search] artist name index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    // 로딩 ~ 교체 사이의 변경은 이전 맵에 반영되고 버려졌으므로 새 맵에 다시 반영
+    private int replayChangedDuringRebuild() {
+        int replayed = 0;
+        while (!changedDuringRebuild.isEmpty()) {
+            List<EntryRef> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+
+            Map<EntryRef, Optional<ArtistNameEntry>> loaded = new LinkedHashMap<>();
+            for (EntryRef ref : changed) {
+                try {
+                    loaded.put(ref, loader.load(ref.type(), ref.id()));
+                } catch (Exception e) {
+                    log.warn("[search] artist replay load failed. type={}, id={}", ref.type(), ref.id(), e);
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                loaded.forEach((ref, entry) -> {
+                    removeInternal(ArtistNameEntry.entryKey(ref.type(), ref.id()));
+                    entry.ifPresent(e -> addInternal(entries, postings, e));
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+            replayed += loaded.size();
+        }
+        return replayed;
+    }
+
+    /*──────────────────────────────────────────────
+     | 증분 색인
+     *──────────────────────────────────────────────*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtistIndexChanged(ArtistIndexChangedEvent event) {
+        if (event.type() == null || event.id() == null) return;
+
+        reindex(event.type(), event.id());
+        publish(event.type(), event.id());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+
+        try {
+            reindex(ArtistType.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.warn("[search] invalid artist reindex message. type={}, id={}", parts[1], parts[2]);
+        }
+    }
+
+    private void reindex(ArtistType type, Long id) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(new EntryRef(type, id));
+        }
+
+        try {
+            Optional<ArtistNameEntry> loaded = loader.load(type, id);
+
+            lock.writeLock().lock();
+            try {
+                removeInternal(ArtistNameEntry.entryKey(type, id));
+                loaded.ifPresent(entry -> addInternal(entries, postings, entry));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("[search] artist reindex failed. type={}, id={}", type, id, e);
+        }
+    }
+
+    private void publish(ArtistType type, Long id) {
+        try {
+            redisTemplate.convertAndSend(REINDEX_CHANNEL, String.join("\n", nodeId, type.name(), String.valueOf(id)));
+        } catch (Exception e) {
+            log.warn("[search] artist reindex publish failed. type={}, id={}", type, id, e);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 내부 헬퍼
+     *──────────────────────────────────────────────*/
+
+    // 검색어 gram 을 모두 포함한 항목 (가장 짧은 posting 부터 교집합)
+    private Set<String> candidates(String q) {
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : queryGrams(q)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) return Set.of();
+            lists.add(posting);
+        }
+        if (lists.isEmpty()) return Set.of();
+
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    // 0: 완전 일치, 1: 접두 일치, 2: 부분 일치, MAX: 불일치
+    private int matchRank(ArtistNameEntry entry, String q) {
+        int best = Integer.MAX_VALUE;
+        for (String key : entry.keys()) {
+            if (key.equals(q)) return 0;
+            if (key.startsWith(q)) best = Math.min(best, 1);
+            else if (key.contains(q)) best = Math.min(best, 2);
+        }
+        return best;
+    }
+
+    private void addInternal(Map<String, ArtistNameEntry> targetEntries,
+                             Map<String, Set<String>> targetPostings,
+                             ArtistNameEntry entry) {
+        String entryKey = entry.entryKey();
+        targetEntries.put(entryKey, entry);
+        for (String key : entry.keys()) {
+            for (String gram : indexGrams(key)) {
+                targetPostings.computeIfAbsent(gram, g -> new HashSet<>()).add(entryKey);
+            }
+        }
+    }
+
+    private void removeInternal(String entryKey) {
+        ArtistNameEntry old = entries.remove(entryKey);
+        if (old == null) return;
+
+        for (String key : old.keys()) {
+            for (String gram : indexGrams(key)) {
+                Set<String> posting = postings.get(gram);
+                if (posting == null) continue;
+                posting.remove(entryKey);
+                if (posting.isEmpty()) postings.remove(gram);
+            }
+        }
+    }
+
+    // 색인: 모든 키의 unigram + bigram (1글자 검색어도 부분 일치로 찾을 수 있도록)
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 검색: 1글자는 unigram, 그 외는 bigram
+    static Set<String> queryGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record EntryRef(ArtistType type, Long id) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import java.util.*;
+
+/**
+ * 자동완성용 접두 색인 (불변, 전체 재구성 방식)
+ * - 모든 키를 정렬된 배열로 보관 → 접두 범위는 이진 탐색 두 번으로 결정
+ * - 짧은 접두(1~2글자)는 범위가 넓으므로 가중치 상위 항목을 빌드 시 미리 계산
+ * - 항목 하나가 여러 키(띄어쓰기 이후 단어, 초성, 로마자 등)를 가질 수 있으며 결과에서는 한 번만 노출
+ */
+public final class CompletionIndex<T> {
+
+    private static final int HOT_PREFIX_LENGTH = 2;
+    private static final int MAX_SCAN = 20_000;
+
+    private final String[] keys;
+    private final int[] targets;
+    private final List<T> items;
+    private final double[] weights;
+    private final int hotLimit;
+    private final Map<String, int[]> hotPrefixes;
+
+    private CompletionIndex(String[] keys, int[] targets, List<T> items, double[] weights, int hotLimit) {
+        this.keys = keys;
+        this.targets = targets;
+        this.items = items;
+        this.weights = weights;
+        this.hotLimit = hotLimit;
+        this.hotPrefixes = buildHotPrefixes();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static <T> CompletionIndex<T> empty() {
+        return new Builder<T>().build(0);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 접두 일치 항목을 가중치 내림차순으로 최대 limit 개 반환
+     */
+    public List<T> complete(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0 || keys.length == 0) return List.of();
+
+        if (prefix.length() <= HOT_PREFIX_LENGTH && limit <= hotLimit) {
+            int[] hot = hotPrefixes.get(prefix);
+            if (hot == null) return List.of();
+            List<T> result = new ArrayList<>(Math.min(limit, hot.length));
+            for (int i = 0; i < hot.length && i < limit; i++) {
+                result.add(items.get(hot[i]));
+            }
+            return result;
+        }
+
+        int from = lowerBound(prefix);
+        int[] top = topTargets(prefix, from, limit);
+        List<T> result = new ArrayList<>(top.length);
+        for (int t : top) {
+            result.add(items.get(t));
+        }
+        return result;
+    }
+
+    /*──────────────────────────────────────────────
+     | 내부 헬퍼
+     *──────────────────────────────────────────────*/
+
+    // prefix 이상인 첫 키 위치
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 접두 범위를 훑으며 상위 limit 개 항목 선택 (항목 중복 제거, 최소 힙 유지)
+    private int[] topTargets(String prefix, int from, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble((Integer t) -> weights[t]).thenComparing(t -> -t));
+        Set<Integer> seen = new HashSet<>();
+
+        for (int i = from, scanned = 0; i < keys.length && scanned < MAX_SCAN; i++, scanned++) {
+            if (!keys[i].startsWith(prefix)) break;
+            int target = targets[i];
+            if (!seen.add(target)) continue;
+
+            heap.offer(target);
+            if (heap.size() > limit) heap.poll();
+        }
+
+        int[] result = new int[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll();
+        }
+        return result;
+    }
+
+    private Map<String, int[]> buildHotPrefixes() {
+        Map<String, Set<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            for (int len = 1; len <= HOT_PREFIX_LENGTH && len <= key.length(); len++) {
+                buckets.computeIfAbsent(key.substring(0, len), k -> new HashSet<>()).add(targets[i]);
+            }
+        }
+
+        Comparator<Integer> byWeight = Comparator
+                .comparingDouble((Integer t) -> weights[t]).reversed()
+                .thenComparingInt(t -> t);
+
+        Map<String, int[]> result = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((prefix, set) -> result.put(prefix, set.stream()
+                .sorted(byWeight)
+                .limit(hotLimit)
+                .mapToInt(Integer::intValue)
+                .toArray()));
+        return result;
+    }
+
+    /*──────────────────────────────────────────────
+     | 빌더
+     *──────────────────────────────────────────────*/
+    public static final class Builder<T> {
+
+        private final List<T> items = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+        private final List<String> keyList = new ArrayList<>();
+        private final List<Integer> targetList = new ArrayList<>();
+
+        public Builder<T> add(T item, double weight, Collection<String> keys) {
+            if (keys.isEmpty()) return this;
+
+            int target = items.size();
+            items.add(item);
+            weights.add(weight);
+            for (String key : new LinkedHashSet<>(keys)) {
+                if (key == null || key.isEmpty()) continue;
+                keyList.add(key);
+                targetList.add(target);
+            }
+            return this;
+        }
+
+        /**
+         * @param hotLimit 짧은 접두에 대해 미리 계산해 둘 상위 항목 수 (요청 limit 상한)
+         */
+        public CompletionIndex<T> build(int hotLimit) {
+            Integer[] order = new Integer[keyList.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparing(keyList::get));
+
+            String[] sortedKeys = new String[order.length];
+            int[] sortedTargets = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keyList.get(order[i]);
+                sortedTargets[i] = targetList.get(order[i]);
+            }
+
+            double[] w = new double[weights.size()];
+            for (int i = 0; i < w.length; i++) w[i] = weights.get(i);
+
+            return new CompletionIndex<>(sortedKeys, sortedTargets, List.copyOf(items), w, hotLimit);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.dearwith.dearwith_backend.search.index;
+
+/**
+ * 이벤트 생성/수정/삭제 시 발행 → 커밋 이후 검색 색인 갱신
+ */
+public record EventIndexChangedEvent(Long eventId) {
+}
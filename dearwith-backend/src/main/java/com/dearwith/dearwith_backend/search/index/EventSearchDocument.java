@@ -0,0 +1,15 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import java.util.List;
+
+/**
+ * 이벤트 검색 색인 단위 (색인 대상 필드만)
+ */
+public record EventSearchDocument(
+        Long id,
+        String title,
+        String description,
+        String placeName,
+        List<String> artistNames
+) {
+}
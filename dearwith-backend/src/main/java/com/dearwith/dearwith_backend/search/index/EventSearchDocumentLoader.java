@@ -0,0 +1,70 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.event.repository.EventArtistGroupMappingRepository;
+import com.dearwith.dearwith_backend.event.repository.EventArtistMappingRepository;
+import com.dearwith.dearwith_backend.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 검색 색인용 문서 로딩 (프로젝션 쿼리 + 아티스트/그룹 이름 일괄 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class EventSearchDocumentLoader {
+
+    private final EventRepository eventRepository;
+    private final EventArtistMappingRepository eventArtistMappingRepository;
+    private final EventArtistGroupMappingRepository eventArtistGroupMappingRepository;
+
+    /**
+     * 전체 재색인용: id 기준 keyset 페이징
+     */
+    @Transactional(readOnly = true)
+    public List<EventSearchDocument> loadAfter(Long lastId, int size) {
+        return toDocuments(eventRepository.findSearchRowsAfter(lastId, PageRequest.of(0, size)));
+    }
+
+    /**
+     * 증분 색인용: 커밋 이후(AFTER_COMMIT) 호출되므로 새 트랜잭션에서 조회
+     * - 삭제된 이벤트(@Where) 는 결과에서 빠짐
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public List<EventSearchDocument> loadByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return toDocuments(eventRepository.findSearchRowsByIdIn(ids));
+    }
+
+    private List<EventSearchDocument> toDocuments(List<EventRepository.EventSearchRow> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        List<Long> ids = rows.stream().map(EventRepository.EventSearchRow::getId).toList();
+        Map<Long, List<String>> names = new HashMap<>();
+
+        eventArtistMappingRepository.findArtistNamesByEventIds(ids).forEach(r ->
+                addNames(names, r.getEventId(), r.getNameKr(), r.getNameEn()));
+        eventArtistGroupMappingRepository.findGroupNamesByEventIds(ids).forEach(r ->
+                addNames(names, r.getEventId(), r.getNameKr(), r.getNameEn()));
+
+        return rows.stream()
+                .map(r -> new EventSearchDocument(
+                        r.getId(),
+                        r.getTitle(),
+                        r.getDescription(),
+                        r.getPlaceName(),
+                        names.getOrDefault(r.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    private void addNames(Map<Long, List<String>> names, Long eventId, String nameKr, String nameEn) {
+        List<String> list = names.computeIfAbsent(eventId, k -> new ArrayList<>());
+        if (nameKr != null) list.add(nameKr);
+        if (nameEn != null) list.add(nameEn);
+    }
+}
@@ -0,0 +1,271 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.search.util.HangulTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이벤트 검색 색인
+ * - 대상 필드: 제목, 설명, 장소명, 아티스트/그룹 이름 (필드별 가중치)
+ * - 기동 시 전체 색인 + 주기적 전체 재색인 (searchIndexExecutor 에서 실행, 기존 색인에 문서 단위로 덮어씀 → 색인 2벌을 동시에 들지 않음)
+ * - 설명은 음절 bigram 만 색인, 전체 posting 수가 max-postings 를 넘으면 색인을 내리고 DB 검색으로 대체
+ * - 이벤트 생성/수정/삭제는 커밋 이후 해당 문서만 재색인하고, 다른 노드에는 Redis pub/sub 으로 전파
+ * - 색인이 준비되기 전에는 호출 측이 DB 검색으로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventSearchIndexService implements MessageListener {
+
+    public static final String REINDEX_CHANNEL = "search:event:reindex";
+
+    private static final float TITLE_BOOST = 3.0F;
+    private static final float ARTIST_BOOST = 2.5F;
+    private static final float PLACE_BOOST = 1.5F;
+    private static final float DESCRIPTION_BOOST = 1.0F;
+
+    // 종류별 term 가중치 (음절 매칭 > 자모 > 로마자)
+    private static final float UNIGRAM_WEIGHT = 0.5F;
+    private static final float JAMO_WEIGHT = 0.5F;
+    private static final float ROMAN_WEIGHT = 0.3F;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final EventSearchDocumentLoader loader;
+    private final HangulTokenizer tokenizer;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final TaskExecutor searchIndexExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.search.event.fuzzy-min-match:0.6}")
+    private double fuzzyMinMatch;
+
+    @Value("${app.search.event.max-postings:6000000}")
+    private long maxPostings;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready = false;
+
+    // 전체 재색인 중 들어온 증분 변경 → 교체 후 다시 반영
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        index = new InvertedIndex(maxPostings);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REINDEX_CHANNEL));
+
+        Gauge.builder("search.event.index.docs", this, s -> s.index.size()).register(meterRegistry);
+        Gauge.builder("search.event.index.postings", this, s -> s.index.postingCount()).register(meterRegistry);
+        Gauge.builder("search.event.index.terms", this, s -> s.index.termCount()).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색 (관련도순)
+     * - 음절 bigram 을 모두 포함한 문서 우선, 없으면 자모/로마자 term 으로 보정 검색
+     */
+    public Optional<SearchHits> search(String query, int offset, int limit) {
+        if (!ready) return Optional.empty();
+
+        HangulTokenizer.QueryTerms terms = tokenizer.queryTerms(query);
+        if (terms.isEmpty()) return Optional.of(new SearchHits(List.of(), 0));
+
+        InvertedIndex current = index;
+        List<InvertedIndex.ScoredDoc> hits = current.search(terms.required(), terms.fuzzy(), 0);
+        if (hits.isEmpty() && !terms.fuzzy().isEmpty()) {
+            hits = current.search(List.of(), terms.fuzzy(), fuzzyMinMatch);
+        }
+
+        List<Long> page = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(InvertedIndex.ScoredDoc::docId)
+                .toList();
+        return Optional.of(new SearchHits(page, hits.size()));
+    }
+
+    /*──────────────────────────────────────────────
+     | 전체 색인
+     *──────────────────────────────────────────────*/
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        searchIndexExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.event.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search.event.rebuild-interval-ms:600000}"
+    )
+    public void scheduleRebuild() {
+        searchIndexExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * 전체 재색인
+     * - 현재 색인에 문서를 배치 단위로 덮어쓰고, 끝까지 조회되지 않은 문서는 삭제
+     * - 검색은 재색인 중에도 현재 색인으로 계속 처리
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+
+        try {
+            long start = System.currentTimeMillis();
+            InvertedIndex current = index;
+            Set<Long> stale = current.docIds();
+
+            Long lastId = 0L;
+            while (true) {
+                List<EventSearchDocument> docs = loader.loadAfter(lastId, REBUILD_BATCH_SIZE);
+                if (docs.isEmpty()) break;
+
+                for (EventSearchDocument doc : docs) {
+                    if (!current.put(doc.id(), termWeights(doc))) {
+                        disable(current);
+                        return;
+                    }
+                    stale.remove(doc.id());
+                }
+                lastId = docs.get(docs.size() - 1).id();
+                if (docs.size() < REBUILD_BATCH_SIZE) break;
+            }
+            stale.forEach(current::remove);
+
+            ready = true;
+            log.info("[search] event index rebuilt. docs={}, postings={}, tookMs={}",
+                    current.size(), current.postingCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[search] event index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재색인 중 변경된 문서 다시 반영
+        if (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            reindex(changed);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 증분 색인
+     *──────────────────────────────────────────────*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventIndexChanged(EventIndexChangedEvent event) {
+        if (event.eventId() == null) return;
+
+        reindex(List.of(event.eventId()));
+        publish(event.eventId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) return;
+
+        try {
+            reindex(List.of(Long.valueOf(parts[1])));
+        } catch (NumberFormatException e) {
+            log.warn("[search] invalid reindex message. body={}", parts[1]);
+        }
+    }
+
+    private void reindex(Collection<Long> eventIds) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.addAll(eventIds);
+        }
+
+        try {
+            InvertedIndex current = index;
+            Set<Long> remaining = new HashSet<>(eventIds);
+
+            for (EventSearchDocument doc : loader.loadByIds(eventIds)) {
+                if (!current.put(doc.id(), termWeights(doc))) {
+                    disable(current);
+                    return;
+                }
+                remaining.remove(doc.id());
+            }
+            // 조회되지 않은 문서 = 삭제됨
+            remaining.forEach(current::remove);
+        } catch (Exception e) {
+            log.warn("[search] event reindex failed. ids={}", eventIds, e);
+        }
+    }
+
+    // posting 상한 초과 → 색인을 비우고 DB 검색으로 대체 (다음 재색인에서 다시 시도)
+    private void disable(InvertedIndex overflowed) {
+        ready = false;
+        if (index == overflowed) {
+            index = new InvertedIndex(maxPostings);
+        }
+        log.warn("[search] event index exceeded max-postings, falling back to DB search. maxPostings={}",
+                maxPostings);
+    }
+
+    private void publish(Long eventId) {
+        try {
+            redisTemplate.convertAndSend(REINDEX_CHANNEL, nodeId + "\n" + eventId);
+        } catch (Exception e) {
+            log.warn("[search] reindex publish failed. eventId={}", eventId, e);
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 문서 → term 가중 빈도
+     *──────────────────────────────────────────────*/
+    private Map<String, Float> termWeights(EventSearchDocument doc) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, doc.title(), TITLE_BOOST);
+        addField(weights, doc.placeName(), PLACE_BOOST);
+        // 설명은 길어서 음절 bigram 만 (unigram/자모/로마자 제외)
+        for (String term : tokenizer.syllableTerms(doc.description())) {
+            weights.merge(term, DESCRIPTION_BOOST, Float::sum);
+        }
+        for (String name : doc.artistNames()) {
+            addField(weights, name, ARTIST_BOOST);
+        }
+        return weights;
+    }
+
+    private void addField(Map<String, Float> weights, String text, float boost) {
+        for (String term : tokenizer.indexTerms(text)) {
+            weights.merge(term, boost * kindWeight(term), Float::sum);
+        }
+    }
+
+    private float kindWeight(String term) {
+        if (term.startsWith(HangulTokenizer.UNIGRAM)) return UNIGRAM_WEIGHT;
+        if (term.startsWith(HangulTokenizer.JAMO)) return JAMO_WEIGHT;
+        if (term.startsWith(HangulTokenizer.ROMAN)) return ROMAN_WEIGHT;
+        return 1.0F;
+    }
+}
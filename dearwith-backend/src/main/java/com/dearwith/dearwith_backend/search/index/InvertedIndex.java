@@ -0,0 +1,299 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (term → 문서별 가중 빈도) + BM25 랭킹
+ * - 문서 추가/교체/삭제는 문서 단위로 증분 반영
+ * - 검색 비용은 전체 문서 수가 아니라 검색어 term 의 posting 크기에 비례
+ * - 읽기/쓰기는 ReadWriteLock 으로 보호 (검색은 동시에, 갱신은 배타적으로)
+ * - posting 은 docId 오름차순 int[]/float[] 배열 (박싱 Map 대비 posting 당 8바이트)
+ * - 전체 posting 수가 maxPostings 를 넘는 문서는 색인하지 않음 (put 이 false 반환)
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, String[]> docTerms = new HashMap<>();
+    private final Map<Long, Float> docLengths = new HashMap<>();
+    private double totalLength;
+    private long postingCount;
+
+    private final long maxPostings;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex() {
+        this(Long.MAX_VALUE);
+    }
+
+    public InvertedIndex(long maxPostings) {
+        this.maxPostings = maxPostings;
+    }
+
+    public record ScoredDoc(long docId, double score) {
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     * @param termWeights term → 가중 빈도 (필드 가중치 반영)
+     * @return 상한 초과로 색인하지 못했으면 false (기존 문서는 제거된 상태)
+     */
+    public boolean put(long docId, Map<String, Float> termWeights) {
+        int id = toIntId(docId);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            if (termWeights.isEmpty()) return true;
+            if (postingCount + termWeights.size() > maxPostings) return false;
+
+            String[] terms = new String[termWeights.size()];
+            int i = 0;
+            float length = 0F;
+            for (Map.Entry<String, Float> e : termWeights.entrySet()) {
+                // posting 키 문자열을 문서 term 목록과 공유
+                String term = e.getKey();
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    posting = new Posting();
+                    postings.put(term, posting);
+                } else {
+                    term = posting.term;
+                }
+                posting.term = term;
+                posting.put(id, e.getValue());
+
+                terms[i++] = term;
+                length += e.getValue();
+            }
+            docTerms.put(docId, terms);
+            docLengths.put(docId, length);
+            totalLength += length;
+            postingCount += terms.length;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> docIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docLengths.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * - required 가 있으면 모든 required term 을 포함한 문서만 후보 (AND)
+     * - required 가 없으면 optional term 중 minShouldMatch 비율 이상 포함한 문서가 후보
+     * - 점수: 후보 문서에 대해 required + optional term 의 BM25 합
+     *
+     * @return 점수 내림차순 (동점이면 최신 문서 우선)
+     */
+    public List<ScoredDoc> search(List<String> required, List<String> optional, double minShouldMatch) {
+        lock.readLock().lock();
+        try {
+            if (docLengths.isEmpty()) return List.of();
+
+            Set<Integer> candidates = required.isEmpty()
+                    ? matchAtLeast(optional, minShouldMatch)
+                    : matchAll(required);
+            if (candidates.isEmpty()) return List.of();
+
+            double avgLength = totalLength / docLengths.size();
+            Map<Integer, Double> scores = new HashMap<>(candidates.size() * 2);
+
+            for (List<String> terms : List.of(required, optional)) {
+                for (String term : terms) {
+                    Posting posting = postings.get(term);
+                    if (posting == null) continue;
+
+                    double idf = idf(posting.size);
+                    for (Integer docId : candidates) {
+                        int at = posting.indexOf(docId);
+                        if (at < 0) continue;
+
+                        float tf = posting.weights[at];
+                        double norm = K1 * (1 - B + B * docLengths.get(docId.longValue()) / avgLength);
+                        scores.merge(docId, idf * (tf * (K1 + 1)) / (tf + norm), Double::sum);
+                    }
+                }
+            }
+
+            List<ScoredDoc> result = new ArrayList<>(scores.size());
+            scores.forEach((docId, score) -> result.add(new ScoredDoc(docId, score)));
+            result.sort(Comparator.comparingDouble(ScoredDoc::score).reversed()
+                    .thenComparing(Comparator.comparingLong(ScoredDoc::docId).reversed()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 내부 헬퍼 (락 보유 상태에서 호출)
+     *──────────────────────────────────────────────*/
+
+    private Set<Integer> matchAll(List<String> terms) {
+        List<Posting> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Posting posting = postings.get(term);
+            if (posting == null) return Set.of();
+            lists.add(posting);
+        }
+
+        // 가장 짧은 posting 부터 교집합
+        lists.sort(Comparator.comparingInt(p -> p.size));
+        Posting shortest = lists.get(0);
+        Set<Integer> result = new HashSet<>(shortest.size * 2);
+        for (int i = 0; i < shortest.size; i++) {
+            result.add(shortest.docIds[i]);
+        }
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            Posting posting = lists.get(i);
+            result.removeIf(docId -> posting.indexOf(docId) < 0);
+        }
+        return result;
+    }
+
+    private Set<Integer> matchAtLeast(List<String> terms, double ratio) {
+        if (terms.isEmpty()) return Set.of();
+
+        int needed = Math.max(1, (int) Math.ceil(terms.size() * ratio));
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String term : terms) {
+            Posting posting = postings.get(term);
+            if (posting == null) continue;
+            for (int i = 0; i < posting.size; i++) {
+                counts.merge(posting.docIds[i], 1, Integer::sum);
+            }
+        }
+
+        Set<Integer> result = new HashSet<>();
+        counts.forEach((docId, count) -> {
+            if (count >= needed) result.add(docId);
+        });
+        return result;
+    }
+
+    private double idf(int docFreq) {
+        int n = docLengths.size();
+        return Math.log(1 + (n - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    private void removeInternal(long docId) {
+        String[] terms = docTerms.remove(docId);
+        if (terms == null) return;
+
+        int id = (int) docId;
+        for (String term : terms) {
+            Posting posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.size == 0) postings.remove(term);
+        }
+        postingCount -= terms.length;
+        Float length = docLengths.remove(docId);
+        if (length != null) totalLength -= length;
+    }
+
+    private static int toIntId(long docId) {
+        if (docId < 0 || docId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("docId out of range: " + docId);
+        }
+        return (int) docId;
+    }
+
+    /**
+     * term 하나의 posting (docId 오름차순)
+     * - 전체 재색인은 docId 순으로 들어오므로 대부분 배열 끝에 추가
+     */
+    static final class Posting {
+        String term;
+        int[] docIds = new int[2];
+        float[] weights = new float[2];
+        int size;
+
+        int indexOf(int docId) {
+            return Arrays.binarySearch(docIds, 0, size, docId);
+        }
+
+        void put(int docId, float weight) {
+            int at = size > 0 && docIds[size - 1] < docId ? -(size + 1) : indexOf(docId);
+            if (at >= 0) {
+                weights[at] = weight;
+                return;
+            }
+
+            int insertAt = -(at + 1);
+            if (size == docIds.length) {
+                int capacity = size + (size >> 1) + 1;
+                docIds = Arrays.copyOf(docIds, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            docIds[insertAt] = docId;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        void remove(int docId) {
+            int at = indexOf(docId);
+            if (at < 0) return;
+
+            System.arraycopy(docIds, at + 1, docIds, at, size - at - 1);
+            System.arraycopy(weights, at + 1, weights, at, size - at - 1);
+            size--;
+
+            // 많이 비면 배열 축소
+            if (size > 0 && size < docIds.length / 4) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+        }
+    }
+}
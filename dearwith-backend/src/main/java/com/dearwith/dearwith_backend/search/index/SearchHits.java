@@ -0,0 +1,9 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import java.util.List;
+
+/**
+ * 색인 검색 결과 (요청 페이지의 문서 ID + 전체 매칭 수)
+ */
+public record SearchHits(List<Long> ids, long total) {
+}
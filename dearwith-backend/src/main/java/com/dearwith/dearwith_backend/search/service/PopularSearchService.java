@@ -0,0 +1,128 @@
+package com.dearwith.dearwith_backend.search.service;
+
+import com.dearwith.dearwith_backend.common.trending.TrendingEntry;
+import com.dearwith.dearwith_backend.common.trending.TrendingPolicy;
+import com.dearwith.dearwith_backend.common.trending.TrendingScoreEngine;
+import com.dearwith.dearwith_backend.search.dto.PopularSearchDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 검색어 (전체 사용자 기준, 시간 감쇠)
+ * - 최근 검색어 저장 시 정규화된 검색어를 로컬에서 집계 → 주기적으로 트렌딩 엔진("search" 정책)에 일괄 적립
+ * - 같은 유저의 같은 검색어는 1시간에 한 번만 반영 (도배 방지)
+ * - 조회는 상위 N개를 짧은 TTL 로 로컬 캐시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularSearchService {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final String TRENDING_POLICY = "search";
+
+    private static final int MAX_QUERY_LENGTH = 30;
+    private static final int MAX_PENDING_TERMS = 10_000;
+
+    private final TrendingScoreEngine trendingScoreEngine;
+    private final Cache<Integer, List<PopularSearchDto>> popularSearchCache;
+    private final Cache<String, Boolean> popularSearchDedupCache;
+    private final MeterRegistry meterRegistry;
+
+    // 검색어 → 플러시 전까지 누적된 횟수
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private TrendingPolicy trendingPolicy;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void init() {
+        trendingPolicy = trendingScoreEngine.policy(TRENDING_POLICY);
+        droppedCounter = meterRegistry.counter("search.popular.dropped");
+    }
+
+    /**
+     * 검색 1회 반영 (요청 스레드에서는 Redis 호출 없음)
+     * @param normalizedQuery QueryNormalizer 로 정규화된 검색어
+     */
+    public void record(UUID userId, String normalizedQuery) {
+        if (userId == null || normalizedQuery == null) return;
+        if (normalizedQuery.isBlank() || normalizedQuery.length() > MAX_QUERY_LENGTH) return;
+
+        if (popularSearchDedupCache.asMap().putIfAbsent(userId + ":" + normalizedQuery, Boolean.TRUE) != null) {
+            return;
+        }
+
+        LongAdder counter = pending.get(normalizedQuery);
+        if (counter == null) {
+            // 집계 대기 검색어가 너무 많으면 새 검색어는 버림 (best-effort)
+            if (pending.size() >= MAX_PENDING_TERMS) {
+                droppedCounter.increment();
+                return;
+            }
+            counter = pending.computeIfAbsent(normalizedQuery, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 인기 검색어 상위 N개 (순위 순)
+     */
+    public List<PopularSearchDto> getPopular(Integer limit) {
+        int size = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return popularSearchCache.get(size, this::resolvePopular);
+    }
+
+    private List<PopularSearchDto> resolvePopular(int limit) {
+        try {
+            List<TrendingEntry> top = trendingScoreEngine.top(trendingPolicy, limit);
+            List<PopularSearchDto> result = new ArrayList<>(top.size());
+            for (TrendingEntry entry : top) {
+                result.add(new PopularSearchDto(result.size() + 1, entry.member()));
+            }
+            return List.copyOf(result);
+        } catch (Exception e) {
+            log.warn("[search] popular search lookup failed", e);
+            return List.of();
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 집계 반영
+     *──────────────────────────────────────────────*/
+    @Scheduled(fixedDelayString = "${app.search.popular.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<String, Double> weights = new HashMap<>();
+        for (String query : new ArrayList<>(pending.keySet())) {
+            LongAdder counter = pending.remove(query);
+            if (counter == null) continue;
+            long count = counter.sum();
+            if (count > 0) weights.put(query, (double) count);
+        }
+        if (weights.isEmpty()) return;
+
+        try {
+            trendingScoreEngine.recordAll(trendingPolicy, weights);
+        } catch (Exception e) {
+            log.warn("[search] popular search flush failed. dropped={}", weights.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
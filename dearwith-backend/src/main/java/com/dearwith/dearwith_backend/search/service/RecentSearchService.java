@@ -4,6 +4,8 @@ import com.dearwith.dearwith_backend.search.util.QueryNormalizer;
 import com.dearwith.dearwith_backend.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +19,7 @@ public class RecentSearchService {
     private final StringRedisTemplate redis;
     private final QueryNormalizer normalizer;
     private final UserReader userReader;
+    private final PopularSearchService popularSearchService;
 
     @Value("${app.search.recent.ttl-days:7}")
     private int ttlDays;
@@ -44,15 +47,23 @@ public class RecentSearchService {
 
         String key = key(userId);
         try {
-            redis.opsForList().remove(key, 0, q);
-            redis.opsForList().leftPush(key, q);
-            redis.opsForList().trim(key, 0, 9);
-            if (ttlDays > 0) {
-                redis.expire(key, Duration.ofDays(ttlDays));
-            }
+            // LREM + LPUSH + LTRIM + EXPIRE 를 한 번의 왕복으로
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.lRem(key, 0, q);
+                conn.lPush(key, q);
+                conn.lTrim(key, 0, 9);
+                if (ttlDays > 0) {
+                    conn.expire(key, Duration.ofDays(ttlDays).toSeconds());
+                }
+                return null;
+            });
         } catch (Exception e) {
             // Redis 장애 시 무시(서비스 디그레이드)
         }
+
+        // 인기 검색어 집계 (로컬 버퍼 → 주기적 일괄 반영)
+        popularSearchService.record(userId, q);
     }
 
     /** 전체 조회(최신 → 과거) */
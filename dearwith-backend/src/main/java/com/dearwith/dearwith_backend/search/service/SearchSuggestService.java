@@ -0,0 +1,185 @@
+package com.dearwith.dearwith_backend.search.service;
+
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+import com.dearwith.dearwith_backend.common.trending.TrendingEntry;
+import com.dearwith.dearwith_backend.common.trending.TrendingScoreEngine;
+import com.dearwith.dearwith_backend.event.repository.EventRepository;
+import com.dearwith.dearwith_backend.search.dto.SearchSuggestionDto;
+import com.dearwith.dearwith_backend.search.enums.SuggestionType;
+import com.dearwith.dearwith_backend.search.index.ArtistNameEntry;
+import com.dearwith.dearwith_backend.search.index.ArtistNameIndexService;
+import com.dearwith.dearwith_backend.search.index.CompletionIndex;
+import com.dearwith.dearwith_backend.search.util.HangulTokenizer;
+import com.dearwith.dearwith_backend.search.util.QueryNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 검색어 자동완성
+ * - 이벤트 제목 + 아티스트/그룹 이름을 하나의 접두 색인(CompletionIndex)으로 구성
+ * - 가중치: 북마크 수 + 트렌딩 점수 × app.search.suggest.trending-weight
+ * - 키: 띄어쓰기 이후 단어부터 시작하는 접미 구간, 한글 초성, 아티스트 영문/로마자 이름 (모두 공백 제거)
+ * - 요청 시에는 메모리 색인만 조회 (DB 조회 없음), 색인은 주기적으로 전체 재구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestService {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_WORD_STARTS = 4;
+
+    private final EventRepository eventRepository;
+    private final ArtistNameIndexService artistNameIndexService;
+    private final TrendingScoreEngine trendingScoreEngine;
+    private final HangulTokenizer tokenizer;
+    private final QueryNormalizer normalizer;
+
+    @Value("${app.search.suggest.trending-weight:0.1}")
+    private double trendingWeight;
+
+    @Value("${app.search.suggest.trending-candidates:1000}")
+    private int trendingCandidates;
+
+    private volatile CompletionIndex<SearchSuggestionDto> index = CompletionIndex.empty();
+
+    /**
+     * 입력 중인 검색어의 자동완성 후보 (가중치순)
+     */
+    public List<SearchSuggestionDto> suggest(String query, Integer limit) {
+        int size = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        String prefix = compact(normalizer.normalize(query));
+        if (prefix.isEmpty()) return List.of();
+
+        return index.complete(prefix, size);
+    }
+
+    /*──────────────────────────────────────────────
+     | 색인 재구성
+     *──────────────────────────────────────────────*/
+    @Scheduled(
+            initialDelayString = "${app.search.suggest.initial-delay-ms:30000}",
+            fixedDelayString = "${app.search.suggest.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            CompletionIndex.Builder<SearchSuggestionDto> builder = CompletionIndex.builder();
+
+            addEvents(builder);
+            addArtists(builder);
+
+            CompletionIndex<SearchSuggestionDto> next = builder.build(MAX_LIMIT);
+            index = next;
+
+            log.info("[search] suggestion index rebuilt. items={}, tookMs={}",
+                    next.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[search] suggestion index rebuild failed", e);
+        }
+    }
+
+    private void addEvents(CompletionIndex.Builder<SearchSuggestionDto> builder) {
+        Map<String, Double> trending = trendingScores("event");
+
+        long lastId = 0L;
+        while (true) {
+            List<EventRepository.EventSuggestRow> rows =
+                    eventRepository.findSuggestRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (rows.isEmpty()) break;
+
+            for (EventRepository.EventSuggestRow row : rows) {
+                if (row.getTitle() == null || row.getTitle().isBlank()) continue;
+
+                double weight = weight(row.getBookmarkCount(), trending.get(String.valueOf(row.getId())));
+                builder.add(
+                        new SearchSuggestionDto(SuggestionType.EVENT, row.getId(), row.getTitle()),
+                        weight,
+                        titleKeys(row.getTitle())
+                );
+            }
+
+            lastId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < REBUILD_BATCH_SIZE) break;
+        }
+    }
+
+    private void addArtists(CompletionIndex.Builder<SearchSuggestionDto> builder) {
+        Map<String, Double> artistTrending = trendingScores("artist");
+        Map<String, Double> groupTrending = trendingScores("group");
+
+        for (ArtistNameEntry entry : artistNameIndexService.entries()) {
+            if (entry.nameKr() == null || entry.nameKr().isBlank()) continue;
+
+            boolean group = entry.type() == ArtistType.GROUP;
+            Double score = (group ? groupTrending : artistTrending).get(String.valueOf(entry.id()));
+
+            builder.add(
+                    new SearchSuggestionDto(group ? SuggestionType.GROUP : SuggestionType.ARTIST, entry.id(), entry.nameKr()),
+                    weight(entry.bookmarkCount(), score),
+                    nameKeys(entry.keys())
+            );
+        }
+    }
+
+    /*──────────────────────────────────────────────
+     | 내부 헬퍼
+     *──────────────────────────────────────────────*/
+    private Map<String, Double> trendingScores(String policyName) {
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            for (TrendingEntry e : trendingScoreEngine.top(trendingScoreEngine.policy(policyName), trendingCandidates)) {
+                scores.put(e.member(), e.score());
+            }
+            return scores;
+        } catch (Exception e) {
+            log.warn("[search] trending scores unavailable for suggestions. policy={}", policyName, e);
+            return Map.of();
+        }
+    }
+
+    private double weight(Long bookmarkCount, Double trendingScore) {
+        double bookmarks = bookmarkCount == null ? 0D : bookmarkCount;
+        double trending = trendingScore == null ? 0D : trendingScore;
+        return bookmarks + trending * trendingWeight;
+    }
+
+    // 제목: 단어 시작 위치마다 접미 구간을 키로 (예: "뉴진스 생일 카페" → "뉴진스생일카페", "생일카페", "카페")
+    private List<String> titleKeys(String title) {
+        List<String> words = tokenizer.words(title);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < words.size() && i < MAX_WORD_STARTS; i++) {
+            addWithChosung(keys, String.join("", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    // 이름: 색인 항목의 정규화 키(한글명/영문명/본명/로마자) 그대로
+    private List<String> nameKeys(List<String> entryKeys) {
+        List<String> keys = new ArrayList<>();
+        for (String key : entryKeys) {
+            addWithChosung(keys, compact(key));
+        }
+        return keys;
+    }
+
+    private void addWithChosung(List<String> keys, String key) {
+        if (key.isEmpty()) return;
+        keys.add(key);
+        if (HangulTokenizer.containsHangul(key)) {
+            keys.add(HangulTokenizer.chosung(key));
+        }
+    }
+
+    private static String compact(String s) {
+        return s.replace(" ", "");
+    }
+}
@@ -0,0 +1,188 @@
+package com.dearwith.dearwith_backend.search.util;
+
+import com.dearwith.dearwith_backend.common.utill.KoreanRomanizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 한글 토크나이저
+ *
+ * 단어(문자/숫자 연속) 단위로 아래 term 을 생성 (접두어로 종류 구분)
+ * - u: 음절 unigram   → 한 글자 검색어용
+ * - s: 음절 bigram    → 기본 매칭 (부분 문자열 검색과 유사)
+ * - j: 자모 trigram   → 입력 중인 검색어("뉴진ㅅ")·오타 보정용
+ * - r: 로마자 bigram  → 로마자로 입력한 한글 이름 매칭 (ICU Hangul-Latin)
+ *
+ * 긴 본문(설명)은 음절 bigram 만 색인 (syllableTerms) → 색인 크기 억제
+ */
+@Component
+@RequiredArgsConstructor
+public class HangulTokenizer {
+
+    public static final String UNIGRAM = "u:";
+    public static final String BIGRAM = "s:";
+    public static final String JAMO = "j:";
+    public static final String ROMAN = "r:";
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄳ", "ㄴ", "ㄵ", "ㄶ", "ㄷ", "ㄹ", "ㄺ",
+            "ㄻ", "ㄼ", "ㄽ", "ㄾ", "ㄿ", "ㅀ", "ㅁ", "ㅂ", "ㅄ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private final QueryNormalizer normalizer;
+
+    /*──────────────────────────────────────────────
+     | 색인: 모든 종류의 term (중복 포함 → 빈도 계산용)
+     *──────────────────────────────────────────────*/
+    public List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            addGrams(terms, UNIGRAM, word, 1);
+            addGrams(terms, BIGRAM, word, 2);
+            addGrams(terms, JAMO, decompose(word), 3);
+            addGrams(terms, ROMAN, romanize(word), 2);
+        }
+        return terms;
+    }
+
+    /**
+     * 음절 bigram 만 (긴 본문용, 중복 포함)
+     */
+    public List<String> syllableTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            addGrams(terms, BIGRAM, word, 2);
+        }
+        return terms;
+    }
+
+    /*──────────────────────────────────────────────
+     | 검색어: 필수 term(음절) / 보조 term(자모·로마자) 분리
+     *──────────────────────────────────────────────*/
+    public QueryTerms queryTerms(String query) {
+        List<String> required = new ArrayList<>();
+        List<String> fuzzy = new ArrayList<>();
+
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                required.add(UNIGRAM + word);
+            } else {
+                addGrams(required, BIGRAM, word, 2);
+            }
+            addGrams(fuzzy, JAMO, decompose(word), 3);
+            addGrams(fuzzy, ROMAN, romanize(word), 2);
+        }
+        return new QueryTerms(distinct(required), distinct(fuzzy));
+    }
+
+    public record QueryTerms(List<String> required, List<String> fuzzy) {
+        public boolean isEmpty() {
+            return required.isEmpty() && fuzzy.isEmpty();
+        }
+    }
+
+    /**
+     * 한글 음절을 호환 자모로 분해 (예: "뉴진스" → "ㄴㅠㅈㅣㄴㅅㅡ")
+     * - 이미 자모인 글자와 한글 외 문자는 그대로 유지
+     */
+    public static String decompose(String word) {
+        StringBuilder sb = new StringBuilder(word.length() * 3);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int idx = c - HANGUL_BASE;
+                sb.append(CHOSUNG[idx / 588])
+                        .append(JUNGSUNG[(idx % 588) / 28])
+                        .append(JONGSUNG[idx % 28]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만 추출 (예: "뉴진스" → "ㄴㅈㅅ"), 한글 음절이 아니면 그대로
+     */
+    public static String chosung(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            Character.UnicodeBlock block = Character.UnicodeBlock.of(word.charAt(i));
+            if (block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                    || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 정규화 후 문자/숫자 연속 구간 단위로 분리
+    public List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) return words;
+
+        String normalized = normalizer.normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // 한글이 포함된 단어만 로마자 변환 (영문 단어는 음절 bigram 과 중복)
+    private String romanize(String word) {
+        if (!containsHangul(word)) return "";
+        String latin = KoreanRomanizer.toLatin(word);
+        if (latin == null) return "";
+        return latin.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    private void addGrams(List<String> out, String prefix, String word, int n) {
+        if (word.isEmpty()) return;
+        if (word.length() <= n) {
+            if (n == 1 || word.length() == n) out.add(prefix + word);
+            return;
+        }
+        for (int i = 0; i + n <= word.length(); i++) {
+            out.add(prefix + word.substring(i, i + n));
+        }
+    }
+
+    private List<String> distinct(List<String> terms) {
+        return terms.stream().distinct().toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.dearwith.dearwith_backend.user.event;
+
+import java.util.UUID;
+
+/**
+ * 인증 정보에 영향을 주는 사용자 상태 변경 (정지/작성제한/해제/탈퇴/권한/알림 설정)
+ * - 커밋 이후 인증 캐시(authPrincipals) 무효화에 사용
+ */
+public record UserPrincipalChangedEvent(UUID userId) {
+}
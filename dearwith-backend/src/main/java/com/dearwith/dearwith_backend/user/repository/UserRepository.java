@@ -7,8 +7,10 @@ import java.util.UUID;
 
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.enums.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
@@ -25,6 +27,37 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     """)
     List<User> findAllByUserStatusLoginAllowed();
 
+    interface NotificationTargetRow {
+        UUID getId();
+        Boolean getEventNotificationEnabled();
+        Boolean getServiceNotificationEnabled();
+    }
+
+    // 알림 대량 발송용: 로그인 가능 유저 id keyset 페이징 (엔티티 로딩 없음)
+    @Query("""
+    SELECT u.id AS id,
+           u.eventNotificationEnabled AS eventNotificationEnabled,
+           u.serviceNotificationEnabled AS serviceNotificationEnabled
+    FROM User u
+    WHERE (u.userStatus = 'ACTIVE' OR u.userStatus = 'WRITE_RESTRICTED')
+      AND u.deletedAt IS NULL
+      AND u.id > :lastId
+    ORDER BY u.id ASC
+    """)
+    List<NotificationTargetRow> findLoginAllowedTargetsAfter(@Param("lastId") UUID lastId, Pageable pageable);
+
+    // 알림 대량 발송용: 주어진 id 중 로그인 가능 유저만 (알림 설정 포함)
+    @Query("""
+    SELECT u.id AS id,
+           u.eventNotificationEnabled AS eventNotificationEnabled,
+           u.serviceNotificationEnabled AS serviceNotificationEnabled
+    FROM User u
+    WHERE u.id IN :ids
+      AND (u.userStatus = 'ACTIVE' OR u.userStatus = 'WRITE_RESTRICTED')
+      AND u.deletedAt IS NULL
+    """)
+    List<NotificationTargetRow> findLoginAllowedTargetsByIdIn(@Param("ids") Collection<UUID> ids);
+
     List<User> findByUserStatusInAndSuspendedUntilBefore(
             Collection<UserStatus> statuses,
             LocalDate until
@@ -2,7 +2,9 @@ package com.dearwith.dearwith_backend.user.service;
 
 
 import com.dearwith.dearwith_backend.user.entity.User;
+import com.dearwith.dearwith_backend.user.event.UserPrincipalChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,17 +15,20 @@ import java.util.UUID;
 public class UserNotificationSettingService {
 
     private final UserReader userReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean updateEventNotification(UUID userId, boolean enabled) {
         User user = userReader.getLoginAllowedUser(userId);
         user.updateEventNotification(enabled);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
         return user.isEventNotificationEnabled();
     }
     @Transactional
     public boolean updateServiceNotification(UUID userId, boolean enabled) {
         User user = userReader.getLoginAllowedUser(userId);
         user.updateServiceNotification(enabled);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
         return user.isServiceNotificationEnabled();
     }
 }
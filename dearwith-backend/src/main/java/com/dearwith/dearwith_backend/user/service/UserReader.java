@@ -4,8 +4,13 @@ import com.dearwith.dearwith_backend.common.exception.BusinessException;
 import com.dearwith.dearwith_backend.common.exception.ErrorCode;
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,11 +21,26 @@ public class UserReader {
 
     private final UserRepository userRepository;
     private final UserGuard userGuard;
+    private final MeterRegistry meterRegistry;
+
+    // 요청 범위 가드 통과 기록 키 (RequestAttributes, SCOPE_REQUEST)
+    private static final String ATTR_PREFIX = UserReader.class.getName() + ".";
+    private static final String GUARD_LOGIN = "guard:login:";
+    private static final String GUARD_ACTIVE = "guard:active:";
+
+    // 같은 요청에서 이미 통과해 생략된 가드 검사 수 (메모리 검사만 생략, SQL 절감 아님)
+    private Counter skippedGuardChecks;
+
+    @PostConstruct
+    void registerMetrics() {
+        skippedGuardChecks = meterRegistry.counter("user.reader.guard.checks.skipped");
+    }
 
     /*──────────────────────────────
      | 1) 기본 조회 (상태와 무관)
      | - 탈퇴/정지/작성제한 상관없이 엔티티만 필요할 때
      | - ex: 리뷰 상세에서 작성자 닉네임 표시 등
+     | - 같은 요청의 반복 조회는 OSIV 영속성 컨텍스트(1차 캐시)가 처리 → 별도 메모이제이션 없음
      *──────────────────────────────*/
     public User getUser(UUID userId) {
         return userRepository.findById(userId)
@@ -40,7 +60,14 @@ public class UserReader {
      *──────────────────────────────*/
     public User getLoginAllowedUser(UUID userId) {
         User user = getUser(userId);
+
+        if (isGuardPassed(GUARD_LOGIN, userId)) {
+            skippedGuardChecks.increment();
+            return user;
+        }
+
         userGuard.ensureLoginAllowed(user);
+        markGuardPassed(GUARD_LOGIN, userId);
         return user;
     }
 
@@ -69,7 +96,49 @@ public class UserReader {
      *──────────────────────────────*/
     public User getActiveUser(UUID userId) {
         User user = getUser(userId);
+
+        if (isGuardPassed(GUARD_ACTIVE, userId)) {
+            skippedGuardChecks.increment();
+            return user;
+        }
+
         userGuard.ensureActive(user);
+        // ACTIVE 통과 = 로그인 가능
+        markGuardPassed(GUARD_ACTIVE, userId);
+        markGuardPassed(GUARD_LOGIN, userId);
         return user;
     }
+
+    /*──────────────────────────────
+     | 요청 범위 가드 통과 기록
+     | - HTTP 요청 스레드에서만 동작 (스케줄러/비동기 스레드는 매번 검사)
+     | - 같은 요청에서 사용자 상태를 바꾼 경우 forget() 으로 비움
+     *──────────────────────────────*/
+    public void forget(UUID userId) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return;
+
+        attrs.removeAttribute(ATTR_PREFIX + GUARD_LOGIN + userId, RequestAttributes.SCOPE_REQUEST);
+        attrs.removeAttribute(ATTR_PREFIX + GUARD_ACTIVE + userId, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private boolean isGuardPassed(String guard, UUID userId) {
+        return Boolean.TRUE.equals(getRequestAttribute(guard + userId));
+    }
+
+    private void markGuardPassed(String guard, UUID userId) {
+        setRequestAttribute(guard + userId, Boolean.TRUE);
+    }
+
+    private Object getRequestAttribute(String key) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        return attrs == null ? null : attrs.getAttribute(ATTR_PREFIX + key, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private void setRequestAttribute(String key, Object value) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs != null) {
+            attrs.setAttribute(ATTR_PREFIX + key, value, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
 }
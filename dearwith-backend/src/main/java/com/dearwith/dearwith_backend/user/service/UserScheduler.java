@@ -2,9 +2,11 @@ package com.dearwith.dearwith_backend.user.service;
 
 import com.dearwith.dearwith_backend.user.entity.User;
 import com.dearwith.dearwith_backend.user.enums.UserStatus;
+import com.dearwith.dearwith_backend.user.event.UserPrincipalChangedEvent;
 import com.dearwith.dearwith_backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserScheduler {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Scheduled(cron = "0 1 0 * * *", zone = "Asia/Seoul")
@@ -32,6 +35,7 @@ public class UserScheduler {
 
         for (User user : targets) {
             user.unsuspend();
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getId()));
         }
 
         log.info("[auto-unsuspend-users] date={} count={}", today, targets.size());
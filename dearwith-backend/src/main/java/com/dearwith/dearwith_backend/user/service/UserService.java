@@ -17,11 +17,13 @@ import com.dearwith.dearwith_backend.user.enums.AgreementType;
 import com.dearwith.dearwith_backend.user.enums.AuthProvider;
 import com.dearwith.dearwith_backend.user.enums.Role;
 import com.dearwith.dearwith_backend.user.enums.UserStatus;
+import com.dearwith.dearwith_backend.user.event.UserPrincipalChangedEvent;
 import com.dearwith.dearwith_backend.user.repository.SocialAccountRepository;
 import com.dearwith.dearwith_backend.user.repository.UserRepository;
 import com.dearwith.dearwith_backend.user.repository.UserWithdrawalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -51,6 +53,7 @@ public class UserService {
     private final UserWithdrawalRepository userWithdrawalRepository;
     private final RefreshTokenStore refreshTokenStore;
     private final PushDeviceService pushDeviceService;
+    private final ApplicationEventPublisher eventPublisher;
     private String passwordVerifiedKey(UUID userId) {
         return "user:password:verified:" + userId;
     }
@@ -407,6 +410,8 @@ public class UserService {
         int deletedSocialCount = socialAccountRepository.softDeleteAllByUserId(userId);
 
         userRepository.save(user);
+        userReader.forget(userId);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
 
         businessLogService.info(
                 BusinessLogCategory.USER,
@@ -458,6 +463,8 @@ public class UserService {
         }
 
         user.suspend(request.reason(), request.until());
+        userReader.forget(userId);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
 
         businessLogService.info(
                 BusinessLogCategory.USER,
@@ -495,6 +502,8 @@ public class UserService {
         }
 
         user.restrictWrite(request.reason(), request.until());
+        userReader.forget(userId);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
 
         businessLogService.info(
                 BusinessLogCategory.USER,
@@ -515,6 +524,8 @@ public class UserService {
         User user = userReader.getUser(userId);
 
         user.unsuspend();
+        userReader.forget(userId);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(userId));
 
         businessLogService.info(
                 BusinessLogCategory.USER,
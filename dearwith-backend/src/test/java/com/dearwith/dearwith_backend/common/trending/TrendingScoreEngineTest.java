@@ -0,0 +1,92 @@
+package com.dearwith.dearwith_backend.common.trending;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TrendingScoreEngineTest {
+
+	@Container
+	static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private TrendingScoreEngine engine;
+	private TrendingPolicy policy;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+
+		TrendingProperties properties = new TrendingProperties();
+		TrendingProperties.Policy p = new TrendingProperties.Policy();
+		p.setHalfLife(Duration.ofHours(1));
+		properties.setPolicies(Map.of("test", p));
+
+		engine = new TrendingScoreEngine(redisTemplate, properties);
+		policy = engine.policy("test");
+	}
+
+	@Test
+	void undoAfterSeveralHalfLivesDoesNotGoNegative() {
+		engine.record(policy, "bookmarked", 3D);
+		engine.record(policy, "untouched", 0.5D);
+
+		// 세 half-life 경과 (epoch 를 과거로 옮기는 것과 같음)
+		shiftEpoch(Duration.ofHours(3));
+
+		engine.record(policy, "bookmarked", -3D);
+
+		List<TrendingEntry> top = engine.top(policy, 0);
+		assertThat(top).extracting(TrendingEntry::member).containsExactly("untouched", "bookmarked");
+		assertThat(top.get(1).score()).isZero();
+		assertThat(top.get(0).score()).isCloseTo(0.5D / 8, offset(1e-6));
+	}
+
+	@Test
+	void undoWithinSameInstantCancelsOut() {
+		engine.record(policy, "a", 3D);
+		engine.record(policy, "a", -3D);
+
+		assertThat(engine.top(policy, 0)).singleElement()
+				.satisfies(e -> assertThat(e.score()).isCloseTo(0D, offset(1e-3)));
+	}
+
+	private void shiftEpoch(Duration elapsed) {
+		long epoch = Long.parseLong(redisTemplate.opsForValue().get(policy.epochKey()));
+		redisTemplate.opsForValue().set(policy.epochKey(), String.valueOf(epoch - elapsed.toMillis()));
+	}
+}
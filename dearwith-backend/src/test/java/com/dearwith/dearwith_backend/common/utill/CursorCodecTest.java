@@ -0,0 +1,50 @@
+package com.dearwith.dearwith_backend.common.utill;
+
+import com.dearwith.dearwith_backend.common.exception.BusinessException;
+import com.dearwith.dearwith_backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+	@Test
+	void roundTrip() {
+		String cursor = CursorCodec.encode(LocalDate.of(2025, 11, 19), 123L);
+
+		assertThat(cursor).isEqualTo("MjAyNS0xMS0xOXwxMjM");
+		assertThat(CursorCodec.decode(cursor, 2, p -> LocalDate.parse(p[0]))).isEqualTo(LocalDate.of(2025, 11, 19));
+		assertThat(CursorCodec.decode(cursor, 2, p -> Long.valueOf(p[1]))).isEqualTo(123L);
+	}
+
+	@Test
+	void keepsEmptyParts() {
+		String cursor = CursorCodec.encode("", 1L);
+
+		assertThat(CursorCodec.decode(cursor, 2, p -> p[0])).isEmpty();
+	}
+
+	@Test
+	void wrongPartCountIsInvalid() {
+		String cursor = CursorCodec.encode(1L);
+
+		assertInvalid(() -> CursorCodec.decode(cursor, 2, p -> p));
+	}
+
+	@Test
+	void malformedCursorIsInvalid() {
+		assertInvalid(() -> CursorCodec.decode("###", 2, p -> p));
+		assertInvalid(() -> CursorCodec.decode(CursorCodec.encode("abc", 1L), 2, p -> Long.valueOf(p[0])));
+		assertInvalid(() -> CursorCodec.decode(CursorCodec.encode("2025-13-40", 1L), 2, p -> LocalDate.parse(p[0])));
+	}
+
+	private static void assertInvalid(Runnable decode) {
+		assertThatThrownBy(decode::run)
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_INPUT);
+	}
+}
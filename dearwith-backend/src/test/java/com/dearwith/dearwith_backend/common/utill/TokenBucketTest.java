@@ -0,0 +1,45 @@
+package com.dearwith.dearwith_backend.common.utill;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TokenBucketTest {
+
+	@Test
+	void rejectsNonPositiveSettings() {
+		assertThatThrownBy(() -> new TokenBucket(0, 10)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(10, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void startsFull() {
+		TokenBucket bucket = new TokenBucket(1, 10);
+
+		assertTimeoutPreemptively(Duration.ofMillis(500), () -> bucket.acquire(10));
+	}
+
+	@Test
+	void waitsForRefillWhenEmpty() throws InterruptedException {
+		// 초당 20개 → 1개당 50ms
+		TokenBucket bucket = new TokenBucket(20, 1);
+		bucket.acquire(1);
+
+		long startedAt = System.nanoTime();
+		bucket.acquire(1);
+		long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+		assertThat(elapsedMs).isGreaterThanOrEqualTo(30);
+	}
+
+	@Test
+	void requestAboveCapacityIsCapped() {
+		TokenBucket bucket = new TokenBucket(1_000, 5);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(1), () -> bucket.acquire(100));
+	}
+}
@@ -0,0 +1,106 @@
+package com.dearwith.dearwith_backend.notification.service;
+
+import com.dearwith.dearwith_backend.notification.dto.PushMessage;
+import com.dearwith.dearwith_backend.notification.enums.NotificationType;
+import com.dearwith.dearwith_backend.notification.repository.PushOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PushOutboxDispatcherTest {
+
+	private static final NotificationType TYPE = NotificationType.EVENT_NOTICE_CREATED;
+
+	private final UUID u1 = UUID.randomUUID();
+	private final UUID u2 = UUID.randomUUID();
+	private final UUID u3 = UUID.randomUUID();
+
+	private PushOutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = new PushOutboxDispatcher(
+				mock(PushOutboxRepository.class),
+				mock(PushNotificationService.class),
+				mock(TransactionTemplate.class),
+				mock(TaskExecutor.class),
+				new SimpleMeterRegistry()
+		);
+	}
+
+	@Test
+	void nonCoalescableRowsAreSentAsIs() {
+		PushOutboxDispatcher.OutboxMessage m = message(1L, null, List.of(u1), "공지", false);
+
+		List<PushOutboxDispatcher.DispatchTask> tasks = dispatcher.toTasks(List.of(m));
+
+		assertThat(tasks).hasSize(1);
+		assertThat(tasks.get(0).rows()).containsExactly(m);
+		assertThat(tasks.get(0).sends()).singleElement().satisfies(send -> {
+			assertThat(send.userIds()).containsExactly(u1);
+			assertThat(send.message().pushId()).isEqualTo("key-1");
+			assertThat(send.message().collapseKey()).isNull();
+		});
+	}
+
+	@Test
+	void usersWithSeveralRowsGetOneSummary() {
+		PushOutboxDispatcher.OutboxMessage first = message(1L, TYPE, List.of(u1, u2), "첫 공지", true);
+		PushOutboxDispatcher.OutboxMessage second = message(2L, TYPE, List.of(u1), "둘째 공지", true);
+		PushOutboxDispatcher.OutboxMessage other = message(3L, null, List.of(u3), "시스템", false);
+
+		List<PushOutboxDispatcher.DispatchTask> tasks = dispatcher.toTasks(List.of(first, second, other));
+
+		assertThat(tasks).hasSize(2);
+		assertThat(tasks.get(0).rows()).containsExactly(other);
+
+		PushOutboxDispatcher.DispatchTask coalesced = tasks.get(1);
+		assertThat(coalesced.rows()).containsExactly(first, second);
+		assertThat(coalesced.sends()).hasSize(2);
+
+		// 1건만 받는 u2 → 원래 메시지 (collapse key 없음)
+		PushOutboxDispatcher.PushSend single = coalesced.sends().get(0);
+		assertThat(single.userIds()).containsExactly(u2);
+		assertThat(single.message().body()).isEqualTo("첫 공지");
+		assertThat(single.message().collapseKey()).isNull();
+
+		// 2건 받는 u1 → 최신 메시지 + 요약 1건
+		PushOutboxDispatcher.PushSend summary = coalesced.sends().get(1);
+		PushMessage message = summary.message();
+		assertThat(summary.userIds()).containsExactly(u1);
+		assertThat(message.body()).isEqualTo("둘째 공지 외 1건");
+		assertThat(message.pushId()).isEqualTo("coalesced:key-2:2");
+		assertThat(message.collapseKey()).isEqualTo("dw_c2");
+	}
+
+	@Test
+	void singleRowOfTypeIsNotCoalesced() {
+		PushOutboxDispatcher.OutboxMessage m = message(7L, TYPE, List.of(u1, u2), "공지", true);
+
+		List<PushOutboxDispatcher.DispatchTask> tasks = dispatcher.toTasks(List.of(m));
+
+		assertThat(tasks).singleElement().satisfies(task -> {
+			assertThat(task.sends()).singleElement().satisfies(send -> {
+				assertThat(send.userIds()).containsExactly(u1, u2);
+				assertThat(send.message().pushId()).isEqualTo("key-7");
+			});
+		});
+	}
+
+	private static PushOutboxDispatcher.OutboxMessage message(Long id,
+															   NotificationType type,
+															   List<UUID> userIds,
+															   String body,
+															   boolean coalescable) {
+		return new PushOutboxDispatcher.OutboxMessage(
+				id, "key-" + id, type, userIds, "제목", body, "/url", 0, coalescable);
+	}
+}
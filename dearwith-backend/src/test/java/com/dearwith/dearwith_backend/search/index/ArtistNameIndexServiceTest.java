@@ -0,0 +1,97 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import com.dearwith.dearwith_backend.artist.enums.ArtistType;
+import com.dearwith.dearwith_backend.search.util.QueryNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArtistNameIndexServiceTest {
+
+	private ArtistNameEntryLoader loader;
+	private ArtistNameIndexService service;
+
+	@BeforeEach
+	void setUp() {
+		loader = mock(ArtistNameEntryLoader.class);
+		when(loader.loadAll()).thenReturn(List.of(
+				entry(1L, "뉴진스"),
+				entry(2L, "뉴"),
+				entry(3L, "아이브"),
+				entry(4L, "르세라핌")
+		));
+
+		service = new ArtistNameIndexService(
+				loader,
+				new QueryNormalizer(),
+				mock(StringRedisTemplate.class),
+				mock(RedisMessageListenerContainer.class)
+		);
+		service.rebuild();
+	}
+
+	@Test
+	void singleCharacterQueryMatchesEveryNameContainingIt() {
+		ArtistNameHits hits = service.search("뉴", 0, 10).orElseThrow();
+
+		assertThat(hits.total()).isEqualTo(2);
+		// 완전 일치가 접두 일치보다 앞
+		assertThat(hits.entries()).extracting(ArtistNameEntry::id).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void singleCharacterQueryMatchesInsideName() {
+		ArtistNameHits hits = service.search("세", 0, 10).orElseThrow();
+
+		assertThat(hits.entries()).extracting(ArtistNameEntry::id).containsExactly(4L);
+	}
+
+	@Test
+	void multiCharacterQueryUsesBigrams() {
+		ArtistNameHits hits = service.search("진스", 0, 10).orElseThrow();
+
+		assertThat(hits.entries()).extracting(ArtistNameEntry::id).containsExactly(1L);
+	}
+
+	@Test
+	void noMatch() {
+		assertThat(service.search("블랙", 0, 10).orElseThrow().total()).isZero();
+	}
+
+	@Test
+	void changeDuringRebuildIsReplayedAfterSwap() {
+		// 전체 로딩 도중 새 아티스트가 생성됨 (로딩 결과에는 없음)
+		when(loader.loadAll()).thenAnswer(invocation -> {
+			service.onArtistIndexChanged(new ArtistIndexChangedEvent(ArtistType.ARTIST, 5L));
+			return List.of(entry(1L, "뉴진스"));
+		});
+		when(loader.load(ArtistType.ARTIST, 5L)).thenReturn(Optional.of(entry(5L, "블랙핑크")));
+
+		service.rebuild();
+
+		assertThat(service.search("블랙", 0, 10).orElseThrow().entries())
+				.extracting(ArtistNameEntry::id)
+				.containsExactly(5L);
+		assertThat(service.search("아이브", 0, 10).orElseThrow().total()).isZero();
+	}
+
+	@Test
+	void indexGramsContainUnigramsAndBigrams() {
+		assertThat(ArtistNameIndexService.indexGrams("abc"))
+				.containsExactlyInAnyOrder("a", "b", "c", "ab", "bc");
+		assertThat(ArtistNameIndexService.queryGrams("a")).containsExactly("a");
+		assertThat(ArtistNameIndexService.queryGrams("abc")).containsExactlyInAnyOrder("ab", "bc");
+	}
+
+	private static ArtistNameEntry entry(Long id, String name) {
+		return new ArtistNameEntry(ArtistType.ARTIST, id, name, null, null, null, 0L, List.of(name));
+	}
+}
@@ -0,0 +1,44 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionIndexTest {
+
+	private CompletionIndex<String> index;
+
+	@BeforeEach
+	void setUp() {
+		index = CompletionIndex.<String>builder()
+				.add("apple", 1, List.of("apple"))
+				.add("apricot", 3, List.of("apricot", "bp"))
+				.add("apex", 5, List.of("apex", "apogee"))
+				.add("banana", 2, List.of("banana"))
+				.build(2);
+	}
+
+	@Test
+	void shortPrefixUsesPrecomputedTop() {
+		assertThat(index.complete("ap", 2)).containsExactly("apex", "apricot");
+		assertThat(index.complete("b", 2)).containsExactly("apricot", "banana");
+	}
+
+	@Test
+	void scanReturnsEachItemOnceByWeight() {
+		// limit 이 hotLimit 보다 크면 범위 탐색
+		assertThat(index.complete("ap", 10)).containsExactly("apex", "apricot", "apple");
+		assertThat(index.complete("apr", 10)).containsExactly("apricot");
+	}
+
+	@Test
+	void noMatch() {
+		assertThat(index.complete("x", 2)).isEmpty();
+		assertThat(index.complete("zzz", 10)).isEmpty();
+		assertThat(index.complete("", 10)).isEmpty();
+		assertThat(CompletionIndex.<String>empty().complete("a", 10)).isEmpty();
+	}
+}
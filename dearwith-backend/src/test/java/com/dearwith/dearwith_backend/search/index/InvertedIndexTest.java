@@ -0,0 +1,110 @@
+package com.dearwith.dearwith_backend.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvertedIndexTest {
+
+	@Test
+	void requiredTermsAreAnded() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1L, Map.of("a", 1F, "b", 1F));
+		index.put(2L, Map.of("a", 1F));
+		index.put(3L, Map.of("b", 1F, "c", 1F));
+
+		assertThat(index.search(List.of("a", "b"), List.of(), 0))
+				.extracting(InvertedIndex.ScoredDoc::docId)
+				.containsExactly(1L);
+		assertThat(index.search(List.of("a", "x"), List.of(), 0)).isEmpty();
+	}
+
+	@Test
+	void higherTermWeightRanksFirst() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1L, Map.of("a", 1F, "z", 1F));
+		index.put(2L, Map.of("a", 3F, "z", 1F));
+
+		assertThat(index.search(List.of("a"), List.of(), 0))
+				.extracting(InvertedIndex.ScoredDoc::docId)
+				.containsExactly(2L, 1L);
+	}
+
+	@Test
+	void optionalTermsNeedMinimumShouldMatch() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1L, Map.of("a", 1F, "b", 1F));
+		index.put(2L, Map.of("a", 1F));
+		index.put(3L, Map.of("a", 1F, "b", 1F, "c", 1F));
+
+		// 3개 중 2개 이상
+		assertThat(index.search(List.of(), List.of("a", "b", "c"), 0.6))
+				.extracting(InvertedIndex.ScoredDoc::docId)
+				.containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void putReplacesExistingDocument() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1L, Map.of("a", 1F, "b", 1F));
+		index.put(1L, Map.of("c", 1F));
+
+		assertThat(index.search(List.of("a"), List.of(), 0)).isEmpty();
+		assertThat(index.search(List.of("c"), List.of(), 0))
+				.extracting(InvertedIndex.ScoredDoc::docId)
+				.containsExactly(1L);
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.postingCount()).isEqualTo(1);
+		assertThat(index.termCount()).isEqualTo(1);
+	}
+
+	@Test
+	void removeDropsPostings() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1L, Map.of("a", 1F));
+		index.put(2L, Map.of("a", 1F, "b", 1F));
+
+		index.remove(2L);
+
+		assertThat(index.docIds()).containsExactly(1L);
+		assertThat(index.postingCount()).isEqualTo(1);
+		assertThat(index.termCount()).isEqualTo(1);
+		assertThat(index.search(List.of("b"), List.of(), 0)).isEmpty();
+	}
+
+	@Test
+	void outOfOrderDocIdsStaySorted() {
+		InvertedIndex index = new InvertedIndex();
+		for (long id : new long[]{5L, 1L, 3L, 4L, 2L}) {
+			index.put(id, Map.of("a", 1F));
+		}
+		index.remove(3L);
+
+		assertThat(index.search(List.of("a"), List.of(), 0))
+				.extracting(InvertedIndex.ScoredDoc::docId)
+				.containsExactly(5L, 4L, 2L, 1L);
+	}
+
+	@Test
+	void putFailsOverPostingCap() {
+		InvertedIndex index = new InvertedIndex(3);
+
+		assertThat(index.put(1L, Map.of("a", 1F, "b", 1F))).isTrue();
+		assertThat(index.put(2L, Map.of("a", 1F, "c", 1F))).isFalse();
+
+		assertThat(index.docIds()).containsExactly(1L);
+		assertThat(index.postingCount()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsDocIdOutsideIntRange() {
+		InvertedIndex index = new InvertedIndex();
+
+		assertThatThrownBy(() -> index.put(Integer.MAX_VALUE + 1L, Map.of("a", 1F)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
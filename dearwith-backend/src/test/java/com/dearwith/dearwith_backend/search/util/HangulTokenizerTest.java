@@ -0,0 +1,50 @@
+package com.dearwith.dearwith_backend.search.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTokenizerTest {
+
+	private final HangulTokenizer tokenizer = new HangulTokenizer(new QueryNormalizer());
+
+	@Test
+	void decomposeAndChosung() {
+		assertThat(HangulTokenizer.decompose("뉴진스")).isEqualTo("ㄴㅠㅈㅣㄴㅅㅡ");
+		assertThat(HangulTokenizer.chosung("뉴진스")).isEqualTo("ㄴㅈㅅ");
+		assertThat(HangulTokenizer.decompose("ab1")).isEqualTo("ab1");
+	}
+
+	@Test
+	void wordsAreNormalizedAndSplit() {
+		assertThat(tokenizer.words("  NewJeans, 뉴진스! ")).containsExactly("newjeans", "뉴진스");
+		assertThat(tokenizer.words(null)).isEmpty();
+	}
+
+	@Test
+	void indexTermsContainEveryKind() {
+		assertThat(tokenizer.indexTerms("뉴진스"))
+				.contains("u:뉴", "u:진", "u:스", "s:뉴진", "s:진스", "j:ㄴㅠㅈ")
+				.anyMatch(t -> t.startsWith(HangulTokenizer.ROMAN));
+	}
+
+	@Test
+	void syllableTermsAreBigramsOnly() {
+		assertThat(tokenizer.syllableTerms("뉴진스 팬미팅"))
+				.containsExactly("s:뉴진", "s:진스", "s:팬미", "s:미팅");
+		// 한 글자 단어는 bigram 이 없음
+		assertThat(tokenizer.syllableTerms("뉴")).isEmpty();
+	}
+
+	@Test
+	void queryTermsUseUnigramForSingleCharacter() {
+		HangulTokenizer.QueryTerms single = tokenizer.queryTerms("뉴");
+		assertThat(single.required()).containsExactly("u:뉴");
+
+		HangulTokenizer.QueryTerms multi = tokenizer.queryTerms("뉴진스");
+		assertThat(multi.required()).containsExactly("s:뉴진", "s:진스");
+		assertThat(multi.fuzzy()).contains("j:ㄴㅠㅈ");
+
+		assertThat(tokenizer.queryTerms(" ").isEmpty()).isTrue();
+	}
+}